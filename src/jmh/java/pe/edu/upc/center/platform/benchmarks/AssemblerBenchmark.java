@@ -0,0 +1,123 @@
+package pe.edu.upc.center.platform.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.commands.TransferProgramStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.assemblers.StudentAssembler;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.CreateStudentRequest;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentMinimalResponse;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentResponse;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.TransferProgramStudentRequest;
+import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfileCommand;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.assemblers.ProfileAssembler;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.CreateProfileRequest;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileMinimalResponse;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
+
+/**
+ * Measures the throughput of the REST assemblers, the mapping done on every request between the
+ * resources and the domain model.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssemblerBenchmark {
+
+  private static final int ROWS = 1024;
+
+  private final CreateProfileRequest[] createProfileRequests = new CreateProfileRequest[ROWS];
+  private final Profile[] profiles = new Profile[ROWS];
+  private final ProfileSummary[] profileSummaries = new ProfileSummary[ROWS];
+  private final CreateStudentRequest[] createStudentRequests = new CreateStudentRequest[ROWS];
+  private final TransferProgramStudentRequest[] transferRequests =
+      new TransferProgramStudentRequest[ROWS];
+  private final Student[] students = new Student[ROWS];
+  private final StudentSummary[] studentSummaries = new StudentSummary[ROWS];
+
+  private int row;
+
+  /**
+   * Prepares the requests and entities mapped by the benchmarks.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < ROWS; i++) {
+      createProfileRequests[i] = BenchmarkData.createProfileRequest(i);
+      profiles[i] = BenchmarkData.profile(i);
+      profileSummaries[i] = BenchmarkData.profileSummary(i);
+      createStudentRequests[i] = BenchmarkData.createStudentRequest(i);
+      transferRequests[i] = BenchmarkData.transferProgramStudentRequest(i);
+      students[i] = BenchmarkData.student(i);
+      studentSummaries[i] = BenchmarkData.studentSummary(i);
+    }
+  }
+
+  @Benchmark
+  public CreateProfileCommand profileToCommandFromRequest() {
+    return ProfileAssembler.toCommandFromRequest(createProfileRequests[nextRow()]);
+  }
+
+  @Benchmark
+  public ProfileResponse profileToResponseFromEntity() {
+    return ProfileAssembler.toResponseFromEntity(profiles[nextRow()]);
+  }
+
+  @Benchmark
+  public ProfileMinimalResponse profileToResponseMinimalFromEntity() {
+    return ProfileAssembler.toResponseMinimalFromEntity(profiles[nextRow()]);
+  }
+
+  @Benchmark
+  public ProfileMinimalResponse profileToResponseMinimalFromSummary() {
+    return ProfileAssembler.toResponseMinimalFromSummary(profileSummaries[nextRow()]);
+  }
+
+  @Benchmark
+  public CreateStudentCommand studentToCommandFromRequest() {
+    return StudentAssembler.toCommandFromTransferRequest(createStudentRequests[nextRow()]);
+  }
+
+  @Benchmark
+  public TransferProgramStudentCommand studentToTransferCommandFromRequest() {
+    int i = nextRow();
+    return StudentAssembler.toCommandFromTransferRequest(students[i].getCode().code(),
+        transferRequests[i]);
+  }
+
+  @Benchmark
+  public StudentResponse studentToResponseFromEntity() {
+    return StudentAssembler.toResponseFromEntity(students[nextRow()]);
+  }
+
+  @Benchmark
+  public StudentResponse studentToResponseFromSummary() {
+    return StudentAssembler.toResponseFromSummary(studentSummaries[nextRow()]);
+  }
+
+  @Benchmark
+  public StudentMinimalResponse studentToResponseMinimalFromEntity() {
+    return StudentAssembler.toResponseMinimalFromEntity(students[nextRow()]);
+  }
+
+  private int nextRow() {
+    row = (row + 1) & (ROWS - 1);
+    return row;
+  }
+}
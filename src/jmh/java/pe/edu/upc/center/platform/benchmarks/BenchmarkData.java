@@ -0,0 +1,76 @@
+package pe.edu.upc.center.platform.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.CreateStudentRequest;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentResponse;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.TransferProgramStudentRequest;
+import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.assemblers.ProfileAssembler;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.CreateProfileRequest;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
+
+/**
+ * Deterministic sample data shared by the benchmarks, the value of {@code i} makes every row
+ * distinct so that no result can be constant folded.
+ */
+final class BenchmarkData {
+
+  private static final LocalDate BASE_BIRTH_DATE = LocalDate.of(1990, 1, 1);
+
+  private BenchmarkData() {
+  }
+
+  static CreateProfileRequest createProfileRequest(int i) {
+    return new CreateProfileRequest("First" + i, "Last" + i, 1, documentNumber(i),
+        BASE_BIRTH_DATE.plusDays(i % 3650), "student" + i + "@upc.edu.pe",
+        "Av. Primavera", "2390", "Lima", "15023", "Peru");
+  }
+
+  static Profile profile(int i) {
+    return new Profile(ProfileAssembler.toCommandFromRequest(createProfileRequest(i)));
+  }
+
+  static ProfileSummary profileSummary(int i) {
+    var profile = profile(i);
+    return new ProfileSummary((long) i, profile.getName(), profile.getDocument(),
+        profile.getBirthDate(), profile.getEmail(), profile.getAddress(),
+        BASE_BIRTH_DATE.atStartOfDay());
+  }
+
+  static ProfileResponse profileResponse(int i) {
+    return ProfileAssembler.toResponseFromEntity(profile(i));
+  }
+
+  static CreateStudentRequest createStudentRequest(int i) {
+    return new CreateStudentRequest((long) i, 1L + i % 10, 1L + i % 5);
+  }
+
+  static TransferProgramStudentRequest transferProgramStudentRequest(int i) {
+    return new TransferProgramStudentRequest(1L + i % 10, 1L + i % 5);
+  }
+
+  static Student student(int i) {
+    return new Student(new CreateStudentCommand((long) i, 1L + i % 10, 1L + i % 5));
+  }
+
+  static StudentSummary studentSummary(int i) {
+    var student = student(i);
+    return new StudentSummary((long) i, student.getCode(), (long) i, 1L + i % 10, 1L + i % 5,
+        student.getStartPeriod(), LocalDateTime.now());
+  }
+
+  static StudentResponse studentResponse(int i) {
+    return new StudentResponse(UUID.randomUUID().toString(), (long) i, 1L + i % 10,
+        1L + i % 5, "202520");
+  }
+
+  static String documentNumber(int i) {
+    return String.valueOf(10_000_000 + i % 90_000_000);
+  }
+}
@@ -0,0 +1,150 @@
+package pe.edu.upc.center.platform.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentResponse;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
+
+/**
+ * Compares the JSON and CBOR encoding and decoding of the list responses, with both mappers
+ * built from the same Jackson builder, as in the application.
+ *
+ * <p>The payload size of each list in each format is printed once per trial, encoding and
+ *     decoding times are measured by the benchmarks.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+  private static final TypeReference<List<ProfileResponse>> PROFILE_LIST =
+      new TypeReference<>() { };
+  private static final TypeReference<List<StudentResponse>> STUDENT_LIST =
+      new TypeReference<>() { };
+
+  @Param({"100000"})
+  private int size;
+
+  private List<ProfileResponse> profiles;
+  private List<StudentResponse> students;
+
+  private ObjectWriter jsonProfilesWriter;
+  private ObjectWriter cborProfilesWriter;
+  private ObjectWriter jsonStudentsWriter;
+  private ObjectWriter cborStudentsWriter;
+  private ObjectReader jsonProfilesReader;
+  private ObjectReader cborProfilesReader;
+  private ObjectReader jsonStudentsReader;
+  private ObjectReader cborStudentsReader;
+
+  private byte[] jsonProfiles;
+  private byte[] cborProfiles;
+  private byte[] jsonStudents;
+  private byte[] cborStudents;
+
+  /**
+   * Builds the mappers, the lists of responses and their encoded payloads.
+   *
+   * @throws IOException if a list cannot be encoded
+   */
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper jsonMapper = builder().build();
+    ObjectMapper cborMapper = builder().factory(new CBORFactory()).build();
+    profiles = new ArrayList<>(size);
+    students = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      profiles.add(BenchmarkData.profileResponse(i));
+      students.add(BenchmarkData.studentResponse(i));
+    }
+
+    jsonProfilesWriter = jsonMapper.writerFor(PROFILE_LIST);
+    cborProfilesWriter = cborMapper.writerFor(PROFILE_LIST);
+    jsonStudentsWriter = jsonMapper.writerFor(STUDENT_LIST);
+    cborStudentsWriter = cborMapper.writerFor(STUDENT_LIST);
+    jsonProfilesReader = jsonMapper.readerFor(PROFILE_LIST);
+    cborProfilesReader = cborMapper.readerFor(PROFILE_LIST);
+    jsonStudentsReader = jsonMapper.readerFor(STUDENT_LIST);
+    cborStudentsReader = cborMapper.readerFor(STUDENT_LIST);
+
+    jsonProfiles = jsonProfilesWriter.writeValueAsBytes(profiles);
+    cborProfiles = cborProfilesWriter.writeValueAsBytes(profiles);
+    jsonStudents = jsonStudentsWriter.writeValueAsBytes(students);
+    cborStudents = cborStudentsWriter.writeValueAsBytes(students);
+    printPayloadSizes("profiles", jsonProfiles, cborProfiles);
+    printPayloadSizes("students", jsonStudents, cborStudents);
+  }
+
+  private static Jackson2ObjectMapperBuilder builder() {
+    return Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  private void printPayloadSizes(String items, byte[] json, byte[] cbor) {
+    System.out.printf("%n%d %s: JSON %d bytes, CBOR %d bytes (%.1f%% of JSON)%n", size, items,
+        json.length, cbor.length, 100.0 * cbor.length / json.length);
+  }
+
+  @Benchmark
+  public byte[] encodeProfilesJson() throws IOException {
+    return jsonProfilesWriter.writeValueAsBytes(profiles);
+  }
+
+  @Benchmark
+  public byte[] encodeProfilesCbor() throws IOException {
+    return cborProfilesWriter.writeValueAsBytes(profiles);
+  }
+
+  @Benchmark
+  public List<ProfileResponse> decodeProfilesJson() throws IOException {
+    return jsonProfilesReader.readValue(jsonProfiles);
+  }
+
+  @Benchmark
+  public List<ProfileResponse> decodeProfilesCbor() throws IOException {
+    return cborProfilesReader.readValue(cborProfiles);
+  }
+
+  @Benchmark
+  public byte[] encodeStudentsJson() throws IOException {
+    return jsonStudentsWriter.writeValueAsBytes(students);
+  }
+
+  @Benchmark
+  public byte[] encodeStudentsCbor() throws IOException {
+    return cborStudentsWriter.writeValueAsBytes(students);
+  }
+
+  @Benchmark
+  public List<StudentResponse> decodeStudentsJson() throws IOException {
+    return jsonStudentsReader.readValue(jsonStudents);
+  }
+
+  @Benchmark
+  public List<StudentResponse> decodeStudentsCbor() throws IOException {
+    return cborStudentsReader.readValue(cborStudents);
+  }
+}
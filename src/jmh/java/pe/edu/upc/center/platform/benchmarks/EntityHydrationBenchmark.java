@@ -0,0 +1,135 @@
+package pe.edu.upc.center.platform.benchmarks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.CurriculumId;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProgramId;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.converters.StudentCodeConverter;
+import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.Document;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.DocumentTypes;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.EmailAddress;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.StreetAddress;
+
+/**
+ * Measures the cost of hydrating one Profile and one Student the way Hibernate does it: the
+ * entity is built with its JPA constructor, the embeddable records with their canonical
+ * constructors, and the fields are assigned directly.
+ *
+ * <p>Run with {@code ./mvnw -Pbenchmarks compile exec:exec -Djmh.args="EntityHydration -prof gc"}
+ * to also see the bytes allocated per hydrated entity.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityHydrationBenchmark {
+
+  private static final int ROWS = 1024;
+
+  private static final VarHandle PROFILE_NAME = field(Profile.class, "name", PersonName.class);
+  private static final VarHandle PROFILE_DOCUMENT =
+      field(Profile.class, "document", Document.class);
+  private static final VarHandle PROFILE_BIRTH_DATE =
+      field(Profile.class, "birthDate", LocalDate.class);
+  private static final VarHandle PROFILE_AGE = field(Profile.class, "age", int.class);
+  private static final VarHandle PROFILE_EMAIL =
+      field(Profile.class, "email", EmailAddress.class);
+  private static final VarHandle PROFILE_ADDRESS =
+      field(Profile.class, "address", StreetAddress.class);
+
+  private static final VarHandle STUDENT_CODE = field(Student.class, "code", StudentCode.class);
+  private static final VarHandle STUDENT_PROFILE_ID =
+      field(Student.class, "profileId", ProfileId.class);
+  private static final VarHandle STUDENT_PROGRAM_ID =
+      field(Student.class, "programId", ProgramId.class);
+  private static final VarHandle STUDENT_CURRICULUM_ID =
+      field(Student.class, "curriculumId", CurriculumId.class);
+  private static final VarHandle STUDENT_START_PERIOD =
+      field(Student.class, "startPeriod", String.class);
+
+  private final StudentCodeConverter studentCodeConverter = new StudentCodeConverter();
+
+  private final String[] firstNames = new String[ROWS];
+  private final String[] lastNames = new String[ROWS];
+  private final String[] documentNumbers = new String[ROWS];
+  private final LocalDate[] birthDates = new LocalDate[ROWS];
+  private final String[] emailAddresses = new String[ROWS];
+  private final UUID[] studentCodes = new UUID[ROWS];
+
+  private int row;
+
+  /**
+   * Prepares the column values of the rows, as the JDBC driver would return them.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < ROWS; i++) {
+      firstNames[i] = "First" + i;
+      lastNames[i] = "Last" + i;
+      documentNumbers[i] = String.valueOf(10_000_000 + i);
+      birthDates[i] = LocalDate.of(1990, 1, 1).plusDays(i);
+      emailAddresses[i] = "student" + i + "@upc.edu.pe";
+      studentCodes[i] = UUID.randomUUID();
+    }
+  }
+
+  @Benchmark
+  public Profile hydrateProfile() {
+    int i = nextRow();
+    var profile = new Profile();
+    PROFILE_NAME.set(profile, new PersonName(firstNames[i], lastNames[i]));
+    PROFILE_DOCUMENT.set(profile, new Document(DocumentTypes.DNI, documentNumbers[i]));
+    PROFILE_BIRTH_DATE.set(profile, birthDates[i]);
+    PROFILE_AGE.set(profile, 30);
+    PROFILE_EMAIL.set(profile, new EmailAddress(emailAddresses[i]));
+    PROFILE_ADDRESS.set(profile,
+        new StreetAddress("Av. Primavera", "2390", "Lima", "15023", "Peru"));
+    return profile;
+  }
+
+  @Benchmark
+  public Student hydrateStudent() {
+    int i = nextRow();
+    var student = new Student();
+    STUDENT_CODE.set(student, studentCodeConverter.convertToEntityAttribute(studentCodes[i]));
+    STUDENT_PROFILE_ID.set(student, new ProfileId((long) i));
+    STUDENT_PROGRAM_ID.set(student, new ProgramId(1L));
+    STUDENT_CURRICULUM_ID.set(student, new CurriculumId(1L));
+    STUDENT_START_PERIOD.set(student, "202520");
+    return student;
+  }
+
+  private int nextRow() {
+    row = (row + 1) & (ROWS - 1);
+    return row;
+  }
+
+  private static VarHandle field(Class<?> type, String name, Class<?> fieldType) {
+    try {
+      return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+          .findVarHandle(type, name, fieldType);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package pe.edu.upc.center.platform.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentResponse;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
+
+/**
+ * Measures the Jackson serialization of the list responses, with an ObjectMapper configured as
+ * Spring Boot configures the one used by the REST controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+  @Param({"1000", "100000"})
+  private int size;
+
+  private final OutputStream output = OutputStream.nullOutputStream();
+
+  private ObjectWriter profilesWriter;
+  private ObjectWriter studentsWriter;
+  private List<ProfileResponse> profiles;
+  private List<StudentResponse> students;
+
+  /**
+   * Builds the writers and the lists of responses to serialize.
+   */
+  @Setup
+  public void setUp() {
+    var objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+            JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .build();
+    profilesWriter = objectMapper.writerFor(new TypeReference<List<ProfileResponse>>() { });
+    studentsWriter = objectMapper.writerFor(new TypeReference<List<StudentResponse>>() { });
+    profiles = new ArrayList<>(size);
+    students = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      profiles.add(BenchmarkData.profileResponse(i));
+      students.add(BenchmarkData.studentResponse(i));
+    }
+  }
+
+  @Benchmark
+  public void serializeProfiles() throws IOException {
+    profilesWriter.writeValue(output, profiles);
+  }
+
+  @Benchmark
+  public void serializeStudents() throws IOException {
+    studentsWriter.writeValue(output, students);
+  }
+}
@@ -0,0 +1,89 @@
+package pe.edu.upc.center.platform.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.Document;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.DocumentTypes;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.EmailAddress;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.StreetAddress;
+
+/**
+ * Measures the throughput of the value object constructors and their validation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueObjectBenchmark {
+
+  private static final int ROWS = 1024;
+
+  private final String[] firstNames = new String[ROWS];
+  private final String[] documentNumbers = new String[ROWS];
+  private final String[] emailAddresses = new String[ROWS];
+  private final String[] studentCodes = new String[ROWS];
+
+  private int row;
+
+  /**
+   * Prepares the raw values the value objects are built from.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < ROWS; i++) {
+      firstNames[i] = "First" + i;
+      documentNumbers[i] = BenchmarkData.documentNumber(i);
+      emailAddresses[i] = "student" + i + "@upc.edu.pe";
+      studentCodes[i] = UUID.randomUUID().toString();
+    }
+  }
+
+  @Benchmark
+  public PersonName personName() {
+    return new PersonName(firstNames[nextRow()], "Last");
+  }
+
+  @Benchmark
+  public Document document() {
+    return new Document(DocumentTypes.DNI, documentNumbers[nextRow()]);
+  }
+
+  @Benchmark
+  public Document documentFromValue() {
+    return new Document(DocumentTypes.fromValue(1), documentNumbers[nextRow()]);
+  }
+
+  @Benchmark
+  public EmailAddress emailAddress() {
+    return new EmailAddress(emailAddresses[nextRow()]);
+  }
+
+  @Benchmark
+  public StreetAddress streetAddress() {
+    return new StreetAddress(firstNames[nextRow()], "2390", "Lima", "15023", "Peru");
+  }
+
+  @Benchmark
+  public StudentCode studentCode() {
+    return new StudentCode(studentCodes[nextRow()]);
+  }
+
+  private int nextRow() {
+    row = (row + 1) & (ROWS - 1);
+    return row;
+  }
+}
@@ -1,47 +1,96 @@
 package pe.edu.upc.center.platform.faculties.application.internal.commandservices;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import pe.edu.upc.center.platform.faculties.application.internal.outboundservices.acl.ExternalProfileService;
+import pe.edu.upc.center.platform.faculties.application.internal.readmodels.StudentReadModel;
 import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.ChangeCurriculumStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentsBatchCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.DeleteStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.TransferProgramStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
 import pe.edu.upc.center.platform.faculties.domain.services.StudentCommandService;
 import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+import pe.edu.upc.center.platform.shared.domain.model.valueobjects.BatchItemResult;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
+import pe.edu.upc.center.platform.shared.utils.Util;
 
 /**
  * Implementation of the StudentCommandService interface for handling student-related commands.
  *
  * <p>This service provides methods to create, update, and delete student entities, interacting
  * with both the StudentRepository and an external profile service.</p>
+ *
+ * <p>Each command runs in one transaction, so the domain events registered by the students are
+ * recorded in the outbox together with the change. The in-memory read model answers the
+ * existence checks once loaded, and receives every change after its transaction commits.</p>
+ *
+ * <p>Batches commit one transaction per chunk, and a chunk rejected by the database is retried
+ * one student per transaction, so one bad row only rejects its own item.</p>
  */
 @Service
 public class StudentCommandServiceImpl implements StudentCommandService {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(StudentCommandServiceImpl.class);
+
+  /**
+   * Error reported for a batch item the database rejected for an unexpected reason, whose
+   * details are logged instead of returned.
+   */
+  private static final String BATCH_ITEM_SAVE_ERROR = "Student could not be saved";
+
   private final StudentRepository studentRepository;
   private final ExternalProfileService externalProfileService;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
+  private final StudentReadModel studentReadModel;
 
   /**
    * Constructs a StudentCommandServiceImpl with the specified dependencies.
    *
    * @param studentRepository the repository for managing Student entities
    * @param externalProfileService the external service for managing profiles
+   * @param transactionManager the transaction manager used to commit batches in chunks
+   * @param entityManager the entity manager cleared after each batch chunk
+   * @param studentReadModel the in-memory read model of the students
    */
   public StudentCommandServiceImpl(StudentRepository studentRepository,
-                                   ExternalProfileService externalProfileService) {
+                                   ExternalProfileService externalProfileService,
+                                   PlatformTransactionManager transactionManager,
+                                   EntityManager entityManager,
+                                   StudentReadModel studentReadModel) {
     this.studentRepository = studentRepository;
     this.externalProfileService = externalProfileService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.entityManager = entityManager;
+    this.studentReadModel = studentReadModel;
   }
 
   @Override
-  public StudentCode handle(CreateStudentCommand command) {
+  @Transactional
+  public Optional<Student> handle(CreateStudentCommand command) {
     var profileId = new ProfileId(command.profileId());
     // Validate if profile ID already exists
-    if (this.studentRepository.existsByProfileId(profileId)) {
+    if (existsByProfileId(profileId)) {
       throw new IllegalArgumentException("Student with profile ID already exists");
     }
 
@@ -52,27 +101,154 @@ public class StudentCommandServiceImpl implements StudentCommandService {
 
     var student = new Student(command);
     try {
-      var createdStudent = this.studentRepository.save(student);
-      return createdStudent.getCode();
+      var createdStudent = this.studentRepository.saveAndFlush(student);
+      this.studentReadModel.putAfterCommit(createdStudent);
+      return Optional.of(createdStudent);
     } catch (Exception e) {
       throw new IllegalArgumentException("Unable to create student: " + e.getMessage());
     }
   }
 
   @Override
+  public List<BatchItemResult<StudentCode>> handle(CreateStudentsBatchCommand command) {
+    var commands = command.commands();
+    List<BatchItemResult<StudentCode>> results = new ArrayList<>(
+        Collections.nCopies(commands.size(), null));
+
+    // Validate the profile IDs of every item
+    var profileIds = new ArrayList<ProfileId>(commands.size());
+    for (int index = 0; index < commands.size(); index++) {
+      try {
+        profileIds.add(new ProfileId(commands.get(index).profileId()));
+      } catch (IllegalArgumentException e) {
+        profileIds.add(null);
+        results.set(index, BatchItemResult.failure(index, e.getMessage()));
+      }
+    }
+    var distinctProfileIds = profileIds.stream()
+        .filter(Objects::nonNull)
+        .map(ProfileId::profileId)
+        .distinct()
+        .toList();
+
+    // Validate against existing students and profiles with one query per chunk
+    var enrolledProfileIds = new HashSet<Long>();
+    for (var chunk : Util.partition(distinctProfileIds, Util.IN_CLAUSE_CHUNK_SIZE)) {
+      enrolledProfileIds.addAll(this.studentRepository.findExistingProfileIds(chunk));
+    }
+    var existingProfileIds = this.externalProfileService.existsProfilesByIds(
+        distinctProfileIds.stream().map(ProfileId::new).toList());
+
+    // Validate uniqueness inside the batch and collect the items to create
+    var batchProfileIds = new HashSet<Long>();
+    var indexesToCreate = new ArrayList<Integer>();
+    for (int index = 0; index < commands.size(); index++) {
+      var profileId = profileIds.get(index);
+      if (Objects.isNull(profileId)) {
+        continue;
+      }
+      if (enrolledProfileIds.contains(profileId.profileId())) {
+        results.set(index, BatchItemResult.failure(index,
+            "Student with profile ID already exists"));
+      } else if (!existingProfileIds.contains(profileId)) {
+        results.set(index, BatchItemResult.failure(index,
+            "Profile ID does not exist in external Profile Service"));
+      } else if (!batchProfileIds.add(profileId.profileId())) {
+        results.set(index, BatchItemResult.failure(index,
+            "Student with profile ID is duplicated in the batch"));
+      } else {
+        indexesToCreate.add(index);
+      }
+    }
+
+    // Create the students, committing one transaction per chunk
+    for (var chunk : Util.partition(indexesToCreate, Util.BATCH_CHUNK_SIZE)) {
+      try {
+        var codes = createStudents(commands, chunk);
+        for (int i = 0; i < chunk.size(); i++) {
+          results.set(chunk.get(i), BatchItemResult.success(chunk.get(i), codes.get(i)));
+        }
+      } catch (DataAccessException | PersistenceException e) {
+        // The whole chunk was rolled back, retry its students one by one to isolate the failure
+        LOGGER.warn("Student batch chunk of {} items rejected, retrying item by item: {}",
+            chunk.size(), e.getMessage());
+        for (var index : chunk) {
+          try {
+            var codes = createStudents(commands, List.of(index));
+            results.set(index, BatchItemResult.success(index, codes.getFirst()));
+          } catch (DataAccessException | PersistenceException itemException) {
+            results.set(index, BatchItemResult.failure(index,
+                batchItemError(itemException, commands.get(index))));
+          }
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Creates the students of the given batch items in one transaction.
+   *
+   * @param commands the commands of the batch
+   * @param indexes the indexes of the items to create
+   * @return the codes of the created students, in the order of the indexes
+   */
+  private List<StudentCode> createStudents(List<CreateStudentCommand> commands,
+                                           List<Integer> indexes) {
+    var students = indexes.stream().map(index -> new Student(commands.get(index))).toList();
+    try {
+      this.transactionTemplate.executeWithoutResult(status -> {
+        this.studentRepository.saveAllAndFlush(students);
+        students.forEach(this.studentReadModel::putAfterCommit);
+      });
+      return students.stream().map(Student::getCode).toList();
+    } finally {
+      this.entityManager.clear();
+    }
+  }
+
+  /**
+   * Returns the error reported for a batch item the database rejected.
+   *
+   * @param exception the exception raised while saving the item
+   * @param command the command of the item
+   * @return the message of a violated unique constraint, or a generic message
+   */
+  private String batchItemError(RuntimeException exception, CreateStudentCommand command) {
+    var constraintName = exception instanceof DataIntegrityViolationException
+        && exception.getCause() instanceof ConstraintViolationException violation
+        ? violation.getConstraintName() : null;
+    if (Student.PROFILE_ID_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+      return "Student with profile ID already exists";
+    }
+    if (Student.CODE_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+      return "Student code already exists";
+    }
+    LOGGER.warn("Unable to save batch student with profile ID {}: {}", command.profileId(),
+        exception.getMessage());
+    return BATCH_ITEM_SAVE_ERROR;
+  }
+
+  @Override
+  @CacheEvict(cacheNames = CachingConfiguration.STUDENTS_BY_CODE_CACHE,
+      key = "#command.studentCode().code()")
+  @Transactional
   public Optional<Student> handle(TransferProgramStudentCommand command) {
 
     // validate if a student exists
-    if (!this.studentRepository.existsByCode(command.studentCode())) {
+    if (!existsByCode(command.studentCode())) {
       throw new IllegalArgumentException("Student not found with code " + command.studentCode());
     }
     // validate if a program exists
 
-    var studentToUpdate = this.studentRepository.findByCode(command.studentCode()).get();
+    var studentToUpdate = this.studentRepository.findByCode(command.studentCode())
+        .orElseThrow(() -> new IllegalArgumentException(
+            "Student not found with code " + command.studentCode()));
     studentToUpdate.updateProgram(command);
 
     try {
       var updatedStudent = this.studentRepository.save(studentToUpdate);
+      this.studentReadModel.putAfterCommit(updatedStudent);
       return Optional.of(updatedStudent);
     }
     catch (Exception e) {
@@ -81,30 +257,49 @@ public class StudentCommandServiceImpl implements StudentCommandService {
   }
 
   @Override
+  @CacheEvict(cacheNames = CachingConfiguration.STUDENTS_BY_CODE_CACHE,
+      key = "#command.studentCode().code()")
+  @Transactional
   public Optional<Student> handle(ChangeCurriculumStudentCommand command) {
 
+    var studentToUpdate = this.studentRepository.findByCode(command.studentCode())
+        .orElseThrow(() -> new IllegalArgumentException(
+            "Student not found with code " + command.studentCode()));
+    studentToUpdate.updateCurriculum(command);
+
     try {
-      this.studentRepository.findByCode(command.studentCode()).map(student -> {
-        student.updateCurriculum(command);
-        return Optional.of(this.studentRepository.save(student));
-      }).orElseThrow(() ->
-          new IllegalArgumentException("Student not found with code " + command.studentCode()));
+      var updatedStudent = this.studentRepository.save(studentToUpdate);
+      this.studentReadModel.putAfterCommit(updatedStudent);
+      return Optional.of(updatedStudent);
     }
     catch (Exception e) {
       throw new IllegalArgumentException("Error while updating student curriculum: " + e.getMessage());
     }
-    return null;
   }
 
   @Override
+  @CacheEvict(cacheNames = CachingConfiguration.STUDENTS_BY_CODE_CACHE,
+      key = "#command.studentCode().code()")
+  @Transactional
   public void handle(DeleteStudentCommand command) {
     // validate if a student exists
-    if (!this.studentRepository.existsByCode(command.studentCode())) {
+    if (!existsByCode(command.studentCode())) {
       throw new IllegalArgumentException("Student not found");
     }
 
-    this.studentRepository.findByCode(command.studentCode()).ifPresent(optionalStudent -> {
-      this.studentRepository.deleteById(optionalStudent.getId());
+    this.studentRepository.findByCode(command.studentCode()).ifPresent(student -> {
+      this.studentRepository.delete(student);
+      this.studentReadModel.removeAfterCommit(student);
     });
   }
+
+  private boolean existsByCode(StudentCode code) {
+    return this.studentReadModel.isReady() ? this.studentReadModel.existsByCode(code)
+        : this.studentRepository.existsByCode(code);
+  }
+
+  private boolean existsByProfileId(ProfileId profileId) {
+    return this.studentReadModel.isReady() ? this.studentReadModel.existsByProfileId(profileId)
+        : this.studentRepository.existsByProfileId(profileId);
+  }
 }
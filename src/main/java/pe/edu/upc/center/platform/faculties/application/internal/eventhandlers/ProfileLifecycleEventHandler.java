@@ -0,0 +1,49 @@
+package pe.edu.upc.center.platform.faculties.application.internal.eventhandlers;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pe.edu.upc.center.platform.faculties.application.internal.outboundservices.acl.ExternalProfileService;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
+import pe.edu.upc.center.platform.profiles.domain.model.events.ProfileCreatedEvent;
+import pe.edu.upc.center.platform.profiles.domain.model.events.ProfileDeletedEvent;
+
+/**
+ * Event handler that keeps the profile existence cache of the faculties context up to date.
+ *
+ * <p>Entries are evicted once the transaction that created or deleted the profile commits,
+ *     so a concurrent lookup cannot cache a result that is about to change.</p>
+ */
+@Service
+public class ProfileLifecycleEventHandler {
+
+  private final ExternalProfileService externalProfileService;
+
+  /**
+   * Constructor for ProfileLifecycleEventHandler.
+   *
+   * @param externalProfileService the service holding the profile existence cache
+   */
+  public ProfileLifecycleEventHandler(ExternalProfileService externalProfileService) {
+    this.externalProfileService = externalProfileService;
+  }
+
+  /**
+   * Handles the creation of a profile, evicting a cached negative existence result.
+   *
+   * @param event the profile created event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ProfileCreatedEvent event) {
+    this.externalProfileService.evictProfileExistence(new ProfileId(event.profileId()));
+  }
+
+  /**
+   * Handles the deletion of a profile, evicting a cached positive existence result.
+   *
+   * @param event the profile deleted event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(ProfileDeletedEvent event) {
+    this.externalProfileService.evictProfileExistence(new ProfileId(event.profileId()));
+  }
+}
@@ -1,30 +1,151 @@
 package pe.edu.upc.center.platform.faculties.application.internal.outboundservices.acl;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.stereotype.Service;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
 import pe.edu.upc.center.platform.profiles.interfaces.acl.ProfilesContextFacade;
+import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Service class for interacting with external profile services via ProfilesContextFacade.
+ * Anti-corruption layer of the faculties context over the profiles context facade.
+ *
+ * <p>Profile existence checks are cached, both positive and negative results, and evicted
+ *     when the profiles context reports that a profile was created or deleted. Single checks
+ *     load through the cache, so an eviction waits for a running load. Batched lookups count
+ *     the evictions made while they run and drop their results when one happened, since the
+ *     results may predate it.</p>
+ *
+ * <p>The results come from the profiles context and not from the caller's transaction, so the
+ *     cache is used without the transaction-aware decorator: puts and evictions apply at once,
+ *     including the evictions made after a commit.</p>
  */
 @Service
 public class ExternalProfileService {
 
   private final ProfilesContextFacade profilesContextFacade;
+  private final Cache profileExistenceCache;
+  private final AtomicLong evictions = new AtomicLong();
 
   /**
    * Constructor for ExternalProfileService.
    *
    * @param profilesContextFacade the ProfilesContextFacade to be used for profile operations
+   * @param cacheManager the cache manager providing the profile existence cache
    */
-  public ExternalProfileService(ProfilesContextFacade profilesContextFacade) {
+  public ExternalProfileService(ProfilesContextFacade profilesContextFacade,
+                                CacheManager cacheManager) {
     this.profilesContextFacade = profilesContextFacade;
+    var cache = Objects.requireNonNull(
+        cacheManager.getCache(CachingConfiguration.PROFILE_EXISTENCE_CACHE));
+    this.profileExistenceCache = cache instanceof TransactionAwareCacheDecorator decorator
+        ? decorator.getTargetCache() : cache;
   }
 
+  /**
+   * Checks if a profile exists, using the cached result when available.
+   *
+   * @param profileId the ID of the profile to check
+   * @return true if the profile exists, false otherwise
+   */
   public boolean existsProfileById(ProfileId profileId) {
-    return this.profilesContextFacade.existsProfileById(profileId.profileId());
+    return Boolean.TRUE.equals(this.profileExistenceCache.get(profileId.profileId(),
+        () -> this.profilesContextFacade.existsProfileById(profileId.profileId())));
+  }
+
+  /**
+   * Checks which of the given profiles exist, using the cached results when available and one
+   * batched lookup for the rest.
+   *
+   * @param profileIds the IDs of the profiles to check
+   * @return the IDs of the existing profiles
+   */
+  public Set<ProfileId> existsProfilesByIds(Collection<ProfileId> profileIds) {
+    var existing = new HashSet<ProfileId>(profileIds.size() * 2);
+    var uncached = new ArrayList<Long>();
+    for (var profileId : profileIds) {
+      var cached = this.profileExistenceCache.get(profileId.profileId());
+      if (Objects.isNull(cached)) {
+        uncached.add(profileId.profileId());
+      } else if (Boolean.TRUE.equals(cached.get())) {
+        existing.add(profileId);
+      }
+    }
+    if (!uncached.isEmpty()) {
+      var evictionsBeforeLookup = this.evictions.get();
+      var existingIds = this.profilesContextFacade.existsProfilesByIds(uncached);
+      for (var id : uncached) {
+        var exists = existingIds.contains(id);
+        this.profileExistenceCache.put(id, exists);
+        if (exists) {
+          existing.add(new ProfileId(id));
+        }
+      }
+      dropIfEvictedSince(evictionsBeforeLookup, uncached);
+    }
+    return existing;
+  }
+
+  /**
+   * Fetches the given profiles with one batched lookup, refreshing their cached existence.
+   *
+   * @param profileIds the IDs of the profiles to fetch
+   * @return the ProfileResources of the existing profiles, missing profiles are absent
+   */
+  public Map<ProfileId, ProfileResponse> fetchProfilesByIds(Collection<ProfileId> profileIds) {
+    var ids = new ArrayList<Long>(profileIds.size());
+    for (var profileId : profileIds) {
+      ids.add(profileId.profileId());
+    }
+    var evictionsBeforeLookup = this.evictions.get();
+    var profileResponses = this.profilesContextFacade.fetchProfilesByIds(ids);
+    var profiles = new HashMap<ProfileId, ProfileResponse>(profileResponses.size() * 2);
+    for (var id : ids) {
+      var profileResponse = profileResponses.get(id);
+      this.profileExistenceCache.put(id, Objects.nonNull(profileResponse));
+      if (Objects.nonNull(profileResponse)) {
+        profiles.put(new ProfileId(id), profileResponse);
+      }
+    }
+    dropIfEvictedSince(evictionsBeforeLookup, ids);
+    return profiles;
+  }
+
+  /**
+   * Drops the results of a batched lookup when an eviction happened since it started.
+   *
+   * <p>The check runs after the results are cached, so an eviction is either counted here or
+   *     runs after the put and removes the result itself.</p>
+   *
+   * @param evictionsBeforeLookup the eviction count read before the lookup
+   * @param ids the IDs whose results were cached
+   */
+  private void dropIfEvictedSince(long evictionsBeforeLookup, Collection<Long> ids) {
+    if (this.evictions.get() != evictionsBeforeLookup) {
+      ids.forEach(this.profileExistenceCache::evict);
+    }
+  }
+
+  /**
+   * Evicts the cached existence result of a profile.
+   *
+   * @param profileId the ID of the profile whose existence changed
+   */
+  public void evictProfileExistence(ProfileId profileId) {
+    this.evictions.incrementAndGet();
+    this.profileExistenceCache.evict(profileId.profileId());
   }
 
   /**
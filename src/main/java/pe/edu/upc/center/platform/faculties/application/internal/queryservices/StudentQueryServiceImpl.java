@@ -1,31 +1,61 @@
 package pe.edu.upc.center.platform.faculties.application.internal.queryservices;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.center.platform.faculties.application.internal.readmodels.StudentReadModel;
 import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.ExportAllStudentsQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetAllStudentsQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByIdQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByProfileIdQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentSummaryByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentVersionByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentsPageQuery;
 import pe.edu.upc.center.platform.faculties.domain.services.StudentQueryService;
 import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
 
 /**
  * Implementation of the StudentQueryService interface.
+ *
+ * <p>Queries run in read-only transactions, so Hibernate neither keeps snapshots of the loaded
+ *     students nor dirty-checks them on flush. Lookups by code are served by the
+ *     {@link StudentReadModel} when it is enabled and loaded.</p>
  */
 @Service
+@Transactional(readOnly = true)
 public class StudentQueryServiceImpl implements StudentQueryService {
 
   private final StudentRepository studentRepository;
+  private final CacheManager cacheManager;
+  private final StudentReadModel studentReadModel;
 
   /**
    * Constructor for StudentQueryServiceImpl.
    *
    * @param studentRepository the repository used to access student data
+   * @param cacheManager the cache manager holding the cached students
+   * @param studentReadModel the in-memory read model of the students
    */
-  public StudentQueryServiceImpl(StudentRepository studentRepository) {
+  public StudentQueryServiceImpl(StudentRepository studentRepository,
+                                 CacheManager cacheManager,
+                                 StudentReadModel studentReadModel) {
     this.studentRepository = studentRepository;
+    this.cacheManager = cacheManager;
+    this.studentReadModel = studentReadModel;
   }
 
   @Override
@@ -33,6 +63,22 @@ public class StudentQueryServiceImpl implements StudentQueryService {
     return this.studentRepository.findAll();
   }
 
+  @Override
+  public Slice<StudentSummary> handle(GetStudentsPageQuery query) {
+    var students = this.studentRepository.findSummariesByIdGreaterThan(query.afterId(),
+        Limit.of(query.limit() + 1));
+    var hasNext = students.size() > query.limit();
+    return new SliceImpl<>(hasNext ? students.subList(0, query.limit()) : students,
+        PageRequest.ofSize(query.limit()), hasNext);
+  }
+
+  @Override
+  public void handle(ExportAllStudentsQuery query, Consumer<StudentSummary> consumer) {
+    try (var students = this.studentRepository.streamAllSummariesBy()) {
+      students.forEach(consumer);
+    }
+  }
+
   @Override
   public Optional<Student> handle(GetStudentByIdQuery query) {
     return this.studentRepository.findById(query.studentId());
@@ -43,8 +89,33 @@ public class StudentQueryServiceImpl implements StudentQueryService {
     return this.studentRepository.findByCode(query.code());
   }
 
+  @Override
+  @Cacheable(cacheNames = CachingConfiguration.STUDENTS_BY_CODE_CACHE,
+      key = "#query.code().code()", condition = "!@studentReadModel.ready",
+      unless = "#result == null")
+  public Optional<StudentSummary> handle(GetStudentSummaryByCodeQuery query) {
+    if (this.studentReadModel.isReady()) {
+      return this.studentReadModel.findByCode(query.code());
+    }
+    return this.studentRepository.findSummaryByCode(query.code());
+  }
+
   @Override
   public Optional<Student> handle(GetStudentByProfileIdQuery query) {
     return this.studentRepository.findByProfileId(query.profileId());
   }
+
+  @Override
+  public Optional<LocalDateTime> handle(GetStudentVersionByCodeQuery query) {
+    if (this.studentReadModel.isReady()) {
+      return this.studentReadModel.findByCode(query.code()).map(StudentSummary::updatedAt);
+    }
+    var students = this.cacheManager.getCache(CachingConfiguration.STUDENTS_BY_CODE_CACHE);
+    var cachedStudent = Objects.isNull(students) ? null
+        : students.get(query.code().code(), StudentSummary.class);
+    if (Objects.nonNull(cachedStudent)) {
+      return Optional.of(cachedStudent.updatedAt());
+    }
+    return this.studentRepository.findUpdatedAtByCode(query.code());
+  }
 }
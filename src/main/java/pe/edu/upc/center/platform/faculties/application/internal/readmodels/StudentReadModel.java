@@ -0,0 +1,299 @@
+package pe.edu.upc.center.platform.faculties.application.internal.readmodels;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+
+/**
+ * In-memory read model of the students, serving lookups by code and profile ID without a
+ * database round trip.
+ *
+ * <p>It holds the summary of every student by code, and the code of every student by profile
+ *     ID and by ID, in concurrent maps, the last one sorted so that a range of IDs can be
+ *     checked without going through every student. The maps are loaded with one streamed query once the application
+ *     is ready, and kept current by the student command service, which applies each change
+ *     once its transaction commits. Until the load completes, {@link #isReady()} is false and
+ *     callers go to the database.</p>
+ *
+ * <p>Changes made by other nodes are not seen, so the read model suits single node
+ *     deployments. A scheduled check compares a random range of students with the database,
+ *     counts the differences in the {@link #MISMATCHES_COUNTER} counter and repairs them.</p>
+ */
+public class StudentReadModel {
+
+  public static final String SIZE_GAUGE = "platform.students.read-model.size";
+  public static final String MISMATCHES_COUNTER = "platform.students.read-model.mismatches";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StudentReadModel.class);
+
+  private final StudentRepository studentRepository;
+  private final StudentReadModelProperties properties;
+  private final TransactionTemplate loadTransactionTemplate;
+  private final TransactionTemplate checkTransactionTemplate;
+  private final Counter mismatchesCounter;
+
+  private final ConcurrentMap<String, StudentSummary> studentsByCode = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, String> codesByProfileId = new ConcurrentHashMap<>();
+  private final ConcurrentNavigableMap<Long, String> codesById = new ConcurrentSkipListMap<>();
+  private final ConcurrentMap<String, Long> deletedWhileLoading = new ConcurrentHashMap<>();
+
+  private volatile boolean loading;
+  private volatile boolean ready;
+
+  /**
+   * Constructor for StudentReadModel.
+   *
+   * @param studentRepository the repository the students are loaded from
+   * @param properties the read model properties
+   * @param transactionManager the transaction manager of the load and the checks
+   * @param meterRegistry the registry where the read model meters are published
+   */
+  public StudentReadModel(StudentRepository studentRepository,
+                          StudentReadModelProperties properties,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+    this.studentRepository = studentRepository;
+    this.properties = properties;
+    this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.loadTransactionTemplate.setReadOnly(true);
+    // The checks read from the primary, a lagging replica would report false mismatches
+    this.checkTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.mismatchesCounter = Counter.builder(MISMATCHES_COUNTER)
+        .description("Students found different from the database by the consistency checks")
+        .register(meterRegistry);
+    Gauge.builder(SIZE_GAUGE, this.studentsByCode, ConcurrentMap::size)
+        .description("Students held by the in-memory read model")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Returns whether the read model is loaded and can answer lookups.
+   *
+   * @return true if lookups can be served from memory
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Finds the summary of a student by code.
+   *
+   * @param code the student code
+   * @return the summary of the student, or empty if there is no such student
+   */
+  public Optional<StudentSummary> findByCode(StudentCode code) {
+    return Optional.ofNullable(this.studentsByCode.get(code.code()));
+  }
+
+  /**
+   * Checks whether a student exists with a code.
+   *
+   * @param code the student code
+   * @return true if a student has the code
+   */
+  public boolean existsByCode(StudentCode code) {
+    return this.studentsByCode.containsKey(code.code());
+  }
+
+  /**
+   * Checks whether a profile is enrolled as student.
+   *
+   * @param profileId the profile ID
+   * @return true if a student has the profile ID
+   */
+  public boolean existsByProfileId(ProfileId profileId) {
+    return this.codesByProfileId.containsKey(profileId.profileId());
+  }
+
+  /**
+   * Stores the current state of a student once the current transaction commits, or right away
+   * outside a transaction.
+   *
+   * @param student the created or updated student
+   */
+  public void putAfterCommit(Student student) {
+    if (this.properties.isEnabled()) {
+      afterCommit(() -> put(toSummary(student)));
+    }
+  }
+
+  /**
+   * Removes a student once the current transaction commits, or right away outside a
+   * transaction.
+   *
+   * @param student the deleted student
+   */
+  public void removeAfterCommit(Student student) {
+    if (this.properties.isEnabled()) {
+      var code = student.getCode().code();
+      var profileId = student.getProfileId().profileId();
+      afterCommit(() -> {
+        if (this.loading) {
+          this.deletedWhileLoading.put(code, profileId);
+        }
+        remove(code, profileId);
+      });
+    }
+  }
+
+  /**
+   * Loads every student once the application is ready.
+   *
+   * <p>Changes committed while the students are loaded are kept, since a summary never
+   *     replaces a more recent one. Students deleted while the students are loaded are
+   *     remembered and removed again once the stream ends, since the stream may still return
+   *     them. When the load fails, lookups keep using the database.</p>
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    if (!this.properties.isEnabled()) {
+      return;
+    }
+    var start = System.nanoTime();
+    this.loading = true;
+    try {
+      this.loadTransactionTemplate.executeWithoutResult(status -> {
+        try (var students = this.studentRepository.streamAllSummariesBy()) {
+          students.filter(student -> !this.deletedWhileLoading.containsKey(student.code().code()))
+              .forEach(this::put);
+        }
+      });
+    } catch (DataAccessException e) {
+      LOGGER.warn("Student read model not loaded, student lookups use the database: {}",
+          e.getMessage());
+      return;
+    } finally {
+      this.loading = false;
+      this.deletedWhileLoading.forEach(this::remove);
+      this.deletedWhileLoading.clear();
+    }
+    this.ready = true;
+    LOGGER.info("Student read model loaded with {} students in {} ms", this.studentsByCode.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  /**
+   * Compares a range of students starting at a random ID with the database, and repairs the
+   * students that differ.
+   *
+   * <p>Students changed after the check started are skipped, they may not be committed yet.</p>
+   */
+  @Scheduled(fixedDelayString = "${" + StudentReadModelProperties.PREFIX
+      + ".consistency-check-interval:1m}")
+  public void checkConsistency() {
+    var sampleSize = this.properties.getConsistencyCheckSampleSize();
+    if (!this.ready || sampleSize <= 0) {
+      return;
+    }
+    var startedAt = LocalDateTime.now();
+    var last = this.codesById.lastEntry();
+    var maxId = Objects.isNull(last) ? 0L : Math.max(last.getKey(), 0L);
+    var afterId = ThreadLocalRandom.current().nextLong(maxId + 1) - 1;
+    try {
+      var databaseStudents = this.checkTransactionTemplate.execute(status ->
+          this.studentRepository.findSummariesByIdGreaterThan(afterId, Limit.of(sampleSize)));
+      var lastId = databaseStudents.size() < sampleSize ? Long.MAX_VALUE
+          : databaseStudents.getLast().id();
+
+      var mismatches = 0;
+      var databaseCodes = new HashMap<String, StudentSummary>();
+      for (var databaseStudent : databaseStudents) {
+        databaseCodes.put(databaseStudent.code().code(), databaseStudent);
+        var student = this.studentsByCode.get(databaseStudent.code().code());
+        if (!databaseStudent.equals(student) && !isChangedAfter(student, startedAt)) {
+          mismatches++;
+          put(databaseStudent);
+        }
+      }
+      for (var code : this.codesById.subMap(afterId, false, lastId, true).values()) {
+        var student = this.studentsByCode.get(code);
+        if (Objects.nonNull(student) && !databaseCodes.containsKey(code)
+            && !isChangedAfter(student, startedAt)) {
+          mismatches++;
+          remove(code, student.profileId());
+        }
+      }
+
+      if (mismatches > 0) {
+        this.mismatchesCounter.increment(mismatches);
+        LOGGER.warn("Student read model repaired {} students differing from the database after"
+            + " ID {}", mismatches, afterId);
+      }
+    } catch (DataAccessException e) {
+      LOGGER.warn("Student read model consistency check failed: {}", e.getMessage());
+    }
+  }
+
+  private void put(StudentSummary student) {
+    this.studentsByCode.merge(student.code().code(), student, (current, candidate) ->
+        candidate.updatedAt().isBefore(current.updatedAt()) ? current : candidate);
+    this.codesByProfileId.put(student.profileId(), student.code().code());
+    this.codesById.put(student.id(), student.code().code());
+  }
+
+  private void remove(String code, Long profileId) {
+    var student = this.studentsByCode.remove(code);
+    this.codesByProfileId.remove(profileId, code);
+    if (Objects.nonNull(student)) {
+      this.codesById.remove(student.id(), code);
+    }
+  }
+
+  private static boolean isChangedAfter(StudentSummary student, LocalDateTime time) {
+    return Objects.nonNull(student) && student.updatedAt().isAfter(time);
+  }
+
+  /**
+   * Builds the summary of a student, with its modification time truncated to the precision
+   * stored by the database so that the consistency checks compare equal summaries.
+   *
+   * @param student the student
+   * @return the summary of the student
+   */
+  private static StudentSummary toSummary(Student student) {
+    return new StudentSummary(student.getId(), student.getCode(),
+        student.getProfileId().profileId(), student.getProgramId().programId(),
+        student.getCurriculumId().curriculumId(), student.getStartPeriod(),
+        student.getUpdatedAt().truncatedTo(ChronoUnit.MICROS));
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,34 @@
+package pe.edu.upc.center.platform.faculties.application.internal.readmodels;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the in-memory student read model, bound from
+ * {@code platform.students.read-model}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = StudentReadModelProperties.PREFIX)
+public class StudentReadModelProperties {
+
+  public static final String PREFIX = "platform.students.read-model";
+
+  /**
+   * Whether student lookups are served from memory once the read model is loaded.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Time between two consistency checks.
+   */
+  private Duration consistencyCheckInterval = Duration.ofMinutes(1);
+
+  /**
+   * Number of students compared with the database in each consistency check, zero to disable
+   * the checks.
+   */
+  private int consistencyCheckSampleSize = 100;
+}
@@ -0,0 +1,42 @@
+package pe.edu.upc.center.platform.faculties.application.internal.readmodels.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import pe.edu.upc.center.platform.faculties.application.internal.readmodels.StudentReadModel;
+import pe.edu.upc.center.platform.faculties.application.internal.readmodels.StudentReadModelProperties;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+
+/**
+ * Configuration class of the in-memory student read model.
+ *
+ * <p>The read model bean always exists, so the student services can ask whether it is ready.
+ *     It only loads and tracks the students with
+ *     {@code platform.students.read-model.enabled=true}.</p>
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(StudentReadModelProperties.class)
+public class StudentReadModelConfiguration {
+
+  /**
+   * Creates the student read model.
+   *
+   * @param studentRepository the repository the students are loaded from
+   * @param properties the read model properties
+   * @param transactionManager the transaction manager of the load and the checks
+   * @param meterRegistry the registry where the read model meters are published
+   * @return the student read model
+   */
+  @Bean
+  public StudentReadModel studentReadModel(StudentRepository studentRepository,
+                                           StudentReadModelProperties properties,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry) {
+    return new StudentReadModel(studentRepository, properties, transactionManager,
+        meterRegistry);
+  }
+}
@@ -1,14 +1,20 @@
 package pe.edu.upc.center.platform.faculties.domain.model.aggregates;
 
 import jakarta.persistence.*;
+import java.util.Objects;
 import lombok.Getter;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.ChangeCurriculumStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.TransferProgramStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.events.StudentCreatedEvent;
+import pe.edu.upc.center.platform.faculties.domain.model.events.StudentCurriculumChangedEvent;
+import pe.edu.upc.center.platform.faculties.domain.model.events.StudentDeletedEvent;
+import pe.edu.upc.center.platform.faculties.domain.model.events.StudentProgramTransferredEvent;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.CurriculumId;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProgramId;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.converters.StudentCodeConverter;
 import pe.edu.upc.center.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import pe.edu.upc.center.platform.shared.utils.Util;
 
@@ -16,16 +22,19 @@ import pe.edu.upc.center.platform.shared.utils.Util;
  * Represents a Student entity in the learning platform.
  */
 @Entity
-@Table(name = "students")
+@Table(name = "students", uniqueConstraints = {
+    @UniqueConstraint(name = Student.CODE_UNIQUE_CONSTRAINT, columnNames = "code"),
+    @UniqueConstraint(name = Student.PROFILE_ID_UNIQUE_CONSTRAINT, columnNames = "profile_id")
+})
 public class Student extends AuditableAbstractAggregateRoot<Student> {
 
+  public static final String CODE_UNIQUE_CONSTRAINT = "uk_students_code";
+  public static final String PROFILE_ID_UNIQUE_CONSTRAINT = "uk_students_profile_id";
+
   @Getter
-  @Embedded
-  @AttributeOverrides({
-      @AttributeOverride(name = "code",
-          column = @Column(name = "code", length = 36, nullable = false))
-  })
-  private final StudentCode code;
+  @Convert(converter = StudentCodeConverter.class)
+  @Column(name = "code", nullable = false)
+  private StudentCode code;
 
   @Getter
   @Embedded
@@ -57,9 +66,10 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
 
   /**
    * Default constructor for JPA.
+   *
+   * <p>It does not generate a code, Hibernate assigns the stored one on every load.</p>
    */
   public Student() {
-    this.code = new StudentCode();
   }
 
   /**
@@ -68,7 +78,7 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
    * @param profileId The profile ID associated with the student.
    */
   public Student(Long profileId) {
-    this();
+    this.code = new StudentCode();
     this.profileId = new ProfileId(profileId);
   }
 
@@ -78,7 +88,7 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
    * @param command The command containing student creation details.
    */
   public Student(CreateStudentCommand command) {
-    this();
+    this.code = new StudentCode();
     this.profileId = new ProfileId(command.profileId());
     this.programId = new ProgramId(command.programId());
     this.curriculumId = new CurriculumId(command.curriculumId());
@@ -92,7 +102,7 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
    * @param startPeriod The period when the student started.
    */
   public Student(ProfileId profileId, Long programId, String startPeriod) {
-    this();
+    this.code = new StudentCode();
     this.profileId = profileId;
     this.programId = new ProgramId(programId);
     this.startPeriod = startPeriod;
@@ -107,6 +117,8 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
     this.programId = new ProgramId(command.programId());
     this.curriculumId = new CurriculumId(command.curriculumId());
     this.startPeriod = Util.START_PERIOD_ACTUAL;
+    registerEvent(new StudentProgramTransferredEvent(this.code.code(),
+        this.programId.programId(), this.curriculumId.curriculumId(), this.startPeriod));
   }
 
   /**
@@ -115,6 +127,25 @@ public class Student extends AuditableAbstractAggregateRoot<Student> {
    */
   public void updateCurriculum(ChangeCurriculumStudentCommand command) {
     this.curriculumId = new CurriculumId(command.curriculumId());
+    registerEvent(new StudentCurriculumChangedEvent(this.code.code(),
+        this.curriculumId.curriculumId()));
+  }
+
+  /**
+   * Registers the created event once the student has been inserted.
+   */
+  @PostPersist
+  private void onCreated() {
+    registerEvent(new StudentCreatedEvent(this.code.code(), this.profileId.profileId(),
+        Objects.isNull(this.programId) ? null : this.programId.programId(),
+        Objects.isNull(this.curriculumId) ? null : this.curriculumId.curriculumId()));
   }
 
+  /**
+   * Registers the deleted event when the student is removed.
+   */
+  @PreRemove
+  private void onDeleted() {
+    registerEvent(new StudentDeletedEvent(this.code.code(), this.profileId.profileId()));
+  }
 }
@@ -0,0 +1,22 @@
+package pe.edu.upc.center.platform.faculties.domain.model.commands;
+
+import java.util.List;
+import java.util.Objects;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * Command to enroll several students at once.
+ *
+ * @param commands the commands for each student to create, in request order
+ */
+public record CreateStudentsBatchCommand(List<CreateStudentCommand> commands) {
+
+  public CreateStudentsBatchCommand {
+    Objects.requireNonNull(commands, "commands must not be null");
+
+    if (commands.isEmpty() || commands.size() > Util.MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("the batch must contain between 1 and "
+          + Util.MAX_BATCH_SIZE + " students");
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package pe.edu.upc.center.platform.faculties.domain.model.events;
+
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+
+/**
+ * Event registered by a Student aggregate when it is persisted for the first time.
+ *
+ * @param studentCode the code of the created student
+ * @param profileId the ID of the profile enrolled as student
+ * @param programId the ID of the program the student is enrolled in
+ * @param curriculumId the ID of the curriculum the student follows
+ */
+public record StudentCreatedEvent(String studentCode, Long profileId, Long programId,
+                                  Long curriculumId) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return "Student";
+  }
+
+  @Override
+  public String aggregateId() {
+    return studentCode;
+  }
+}
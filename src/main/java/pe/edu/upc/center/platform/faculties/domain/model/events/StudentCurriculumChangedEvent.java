@@ -0,0 +1,23 @@
+package pe.edu.upc.center.platform.faculties.domain.model.events;
+
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+
+/**
+ * Event registered by a Student aggregate when it changes its curriculum.
+ *
+ * @param studentCode the code of the student
+ * @param curriculumId the ID of the new curriculum
+ */
+public record StudentCurriculumChangedEvent(String studentCode, Long curriculumId)
+    implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return "Student";
+  }
+
+  @Override
+  public String aggregateId() {
+    return studentCode;
+  }
+}
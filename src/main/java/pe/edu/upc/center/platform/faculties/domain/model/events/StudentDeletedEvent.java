@@ -0,0 +1,22 @@
+package pe.edu.upc.center.platform.faculties.domain.model.events;
+
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+
+/**
+ * Event registered by a Student aggregate when it is removed.
+ *
+ * @param studentCode the code of the deleted student
+ * @param profileId the ID of the profile that was enrolled as student
+ */
+public record StudentDeletedEvent(String studentCode, Long profileId) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return "Student";
+  }
+
+  @Override
+  public String aggregateId() {
+    return studentCode;
+  }
+}
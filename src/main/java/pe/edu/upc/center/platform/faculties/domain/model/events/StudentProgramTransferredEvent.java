@@ -0,0 +1,26 @@
+package pe.edu.upc.center.platform.faculties.domain.model.events;
+
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+
+/**
+ * Event registered by a Student aggregate when it is transferred to another program.
+ *
+ * @param studentCode the code of the transferred student
+ * @param programId the ID of the new program
+ * @param curriculumId the ID of the curriculum of the new program
+ * @param startPeriod the period when the student starts the new program
+ */
+public record StudentProgramTransferredEvent(String studentCode, Long programId,
+                                             Long curriculumId, String startPeriod)
+    implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return "Student";
+  }
+
+  @Override
+  public String aggregateId() {
+    return studentCode;
+  }
+}
@@ -0,0 +1,22 @@
+package pe.edu.upc.center.platform.faculties.domain.model.projections;
+
+import java.time.LocalDateTime;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+
+/**
+ * Read-only view of a student with the columns needed to list it and to version it.
+ *
+ * <p>It is selected directly by the repository, so listing or exporting students does not
+ *     hydrate the entities nor keep them in the persistence context.</p>
+ *
+ * @param id           the student ID
+ * @param code         the student code
+ * @param profileId    the ID of the profile associated with the student
+ * @param programId    the ID of the program the student is enrolled in
+ * @param curriculumId the ID of the curriculum the student follows
+ * @param startPeriod  the period when the student started
+ * @param updatedAt    the last modification time of the student
+ */
+public record StudentSummary(Long id, StudentCode code, Long profileId, Long programId,
+                             Long curriculumId, String startPeriod, LocalDateTime updatedAt) {
+}
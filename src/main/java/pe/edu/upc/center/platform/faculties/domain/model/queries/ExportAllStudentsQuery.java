@@ -0,0 +1,7 @@
+package pe.edu.upc.center.platform.faculties.domain.model.queries;
+
+/**
+ * Query to export all students one by one without loading them all in memory.
+ */
+public record ExportAllStudentsQuery() {
+}
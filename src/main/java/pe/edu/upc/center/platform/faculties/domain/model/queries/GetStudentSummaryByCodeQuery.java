@@ -0,0 +1,11 @@
+package pe.edu.upc.center.platform.faculties.domain.model.queries;
+
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+
+/**
+ * Query to get the summary of a student by their student code.
+ *
+ * @param code The unique code of the student.
+ */
+public record GetStudentSummaryByCodeQuery(StudentCode code) {
+}
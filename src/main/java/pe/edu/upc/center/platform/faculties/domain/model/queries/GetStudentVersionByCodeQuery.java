@@ -0,0 +1,11 @@
+package pe.edu.upc.center.platform.faculties.domain.model.queries;
+
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+
+/**
+ * Query to get the last modification time of a student, without loading the student.
+ *
+ * @param code The unique code of the student.
+ */
+public record GetStudentVersionByCodeQuery(StudentCode code) {
+}
@@ -0,0 +1,23 @@
+package pe.edu.upc.center.platform.faculties.domain.model.queries;
+
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+import java.util.Objects;
+
+/**
+ * Query to get a page of students using keyset pagination on the student ID.
+ *
+ * @param afterId the ID of the last student of the previous page, 0 for the first page
+ * @param limit   the maximum number of students to retrieve
+ */
+public record GetStudentsPageQuery(Long afterId, int limit) {
+
+  public GetStudentsPageQuery {
+    if (Objects.isNull(afterId) || afterId < 0) {
+      throw new IllegalArgumentException("after cursor cannot be null or negative");
+    }
+    if (limit < 1 || limit > Util.MAX_PAGE_LIMIT) {
+      throw new IllegalArgumentException("limit must be between 1 and " + Util.MAX_PAGE_LIMIT);
+    }
+  }
+}
@@ -1,18 +1,17 @@
 package pe.edu.upc.center.platform.faculties.domain.model.valueobjects;
 
-import jakarta.persistence.Embeddable;
-
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Represents a unique code for a student.
  *
+ * <p>The code is exposed as a string and stored in a native uuid column.</p>
+ *
  * @param code the student code, it must not be null or blank and must be a valid UUID
  *
  * @author Open Source Application Development Team
  */
-@Embeddable
 public record StudentCode(String code) {
 
   /**
@@ -34,8 +33,29 @@ public record StudentCode(String code) {
     if (code.length() != 36) {
       throw new IllegalArgumentException("Student code must be 36 characters long");
     }
-    if (!code.matches("[a-f0-9]{8}-([a-f0-9]{4}-){3}[a-f0-9]{12}")) {
+    if (!isLowerCaseUuid(code)) {
       throw new IllegalArgumentException("Student code must be a valid UUID");
     }
   }
+
+  /**
+   * Checks that a 36 characters long code has the lower case UUID format, without regular
+   * expressions because a code is built for every student loaded from the database.
+   *
+   * @param code the code to check
+   * @return true if the code matches {@code [a-f0-9]{8}-([a-f0-9]{4}-){3}[a-f0-9]{12}}
+   */
+  private static boolean isLowerCaseUuid(String code) {
+    for (int i = 0; i < 36; i++) {
+      char character = code.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (character != '-') {
+          return false;
+        }
+      } else if ((character < '0' || character > '9') && (character < 'a' || character > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
@@ -3,10 +3,13 @@ package pe.edu.upc.center.platform.faculties.domain.services;
 import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.ChangeCurriculumStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentsBatchCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.DeleteStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.TransferProgramStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.shared.domain.model.valueobjects.BatchItemResult;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,9 +21,19 @@ public interface StudentCommandService {
    * Handles the creation of a new student based on the provided command.
    *
    * @param command the command containing the details of the student to be created
-   * @return the StudentCode of the newly created student
+   * @return an optional containing the persisted student, with its code assigned
    */
-  StudentCode handle(CreateStudentCommand command);
+  Optional<Student> handle(CreateStudentCommand command);
+
+  /**
+   * Handles the enrollment of several students, validating every item and creating the valid
+   * ones in chunked batch inserts.
+   *
+   * @param command the command containing the students to be created, in request order
+   * @return the result of each item in request order, with the StudentCode of the created
+   *     students or the reason an item was rejected
+   */
+  List<BatchItemResult<StudentCode>> handle(CreateStudentsBatchCommand command);
 
   /**
    * Handles the update of a student based on the provided command.
@@ -1,13 +1,21 @@
 package pe.edu.upc.center.platform.faculties.domain.services;
 
+import org.springframework.data.domain.Slice;
 import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.ExportAllStudentsQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetAllStudentsQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByIdQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByProfileIdQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentSummaryByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentVersionByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentsPageQuery;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service interface for handling student-related queries.
@@ -22,6 +30,26 @@ public interface StudentQueryService {
    */
   List<Student> handle(GetAllStudentsQuery query);
 
+  /**
+   * Handle the query to get a page of students after a given cursor.
+   *
+   * @param query the query containing the cursor and the page limit
+   * @return a slice of at most {@code limit} students ordered by ID, telling whether more
+   *     students follow
+   */
+  Slice<StudentSummary> handle(GetStudentsPageQuery query);
+
+  /**
+   * Handle the query to export all students, passing them one by one to the consumer.
+   *
+   * <p>Each student is detached once consumed, so memory use does not grow with
+   *     the number of students.</p>
+   *
+   * @param query the query to export all students
+   * @param consumer the consumer that receives each student
+   */
+  void handle(ExportAllStudentsQuery query, Consumer<StudentSummary> consumer);
+
   /**
    * Handle the query to get a student by their ID.
    *
@@ -38,6 +66,17 @@ public interface StudentQueryService {
    */
   Optional<Student> handle(GetStudentByCodeQuery query);
 
+  /**
+   * Handle the query to get the summary of a student by their student code.
+   *
+   * <p>Answered from the in-memory read model once it is loaded, and otherwise from the
+   *     students cache or with a query that only selects the summary columns.</p>
+   *
+   * @param query the query containing the student code
+   * @return an Optional containing the summary of the student if found, or empty if not found
+   */
+  Optional<StudentSummary> handle(GetStudentSummaryByCodeQuery query);
+
   /**
    * Handle the query to get a student by their profile ID.
    *
@@ -45,4 +84,16 @@ public interface StudentQueryService {
    * @return an Optional containing the Student if found, or empty if not found
    */
   Optional<Student> handle(GetStudentByProfileIdQuery query);
+
+  /**
+   * Handle the query to get the last modification time of a student.
+   *
+   * <p>Answered from the in-memory read model once it is loaded, from the students cache when
+   *     the student is cached, and otherwise with a query that only reads the modification
+   *     time.</p>
+   *
+   * @param query the query containing the student code
+   * @return an optional last modification time, empty if the student does not exist
+   */
+  Optional<LocalDateTime> handle(GetStudentVersionByCodeQuery query);
 }
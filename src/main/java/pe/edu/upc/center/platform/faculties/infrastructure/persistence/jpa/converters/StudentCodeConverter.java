@@ -0,0 +1,24 @@
+package pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.converters;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Objects;
+import java.util.UUID;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+
+/**
+ * Converter that stores a StudentCode in a native 16-byte uuid column.
+ */
+@Converter
+public class StudentCodeConverter implements AttributeConverter<StudentCode, UUID> {
+
+  @Override
+  public UUID convertToDatabaseColumn(StudentCode studentCode) {
+    return Objects.isNull(studentCode) ? null : UUID.fromString(studentCode.code());
+  }
+
+  @Override
+  public StudentCode convertToEntityAttribute(UUID code) {
+    return Objects.isNull(code) ? null : new StudentCode(code.toString());
+  }
+}
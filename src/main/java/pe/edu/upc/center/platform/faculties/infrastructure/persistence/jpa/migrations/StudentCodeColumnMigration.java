@@ -0,0 +1,49 @@
+package pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.migrations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.migrations.SchemaMigration;
+
+/**
+ * Migrates the students code column from varchar(36) to the native uuid type in place.
+ *
+ * <p>The schema update does not change the type of existing columns, so tables created
+ *     before the code was stored as uuid are converted at startup, rebuilding the unique
+ *     index on the column. Nothing is done once the column already has the uuid type.</p>
+ */
+@Component
+public class StudentCodeColumnMigration implements SchemaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StudentCodeColumnMigration.class);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor for StudentCodeColumnMigration.
+   *
+   * @param jdbcTemplate the JDBC template used to inspect and alter the column
+   */
+  public StudentCodeColumnMigration(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public int getOrder() {
+    return STUDENT_CODE_COLUMN_ORDER;
+  }
+
+  @Override
+  public void migrate() {
+    var dataTypes = this.jdbcTemplate.queryForList("""
+        SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'students'
+          AND column_name = 'code'""", String.class);
+    if (dataTypes.isEmpty() || "uuid".equals(dataTypes.getFirst())) {
+      return;
+    }
+    this.jdbcTemplate.execute("ALTER TABLE students ALTER COLUMN code TYPE uuid USING code::uuid");
+    LOGGER.info("Column students.code migrated from {} to uuid", dataTypes.getFirst());
+  }
+}
@@ -1,9 +1,19 @@
 package pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
 
@@ -13,6 +23,15 @@ import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCod
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
+  /**
+   * Select clause of the student summary projection.
+   */
+  String SELECT_SUMMARY = """
+      select new pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary(
+          s.id, s.code, s.profileId.profileId, s.programId.programId,
+          s.curriculumId.curriculumId, s.startPeriod, s.updatedAt)
+      from Student s""";
+
   /**
    * Find a student by their student code.
    *
@@ -44,4 +63,60 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
    * @return true if a student with the given profile ID exists, false otherwise
    */
   boolean existsByProfileId(ProfileId profileId);
+
+  /**
+   * Find the summary of a student by their student code.
+   *
+   * @param code the student code to search for
+   * @return an Optional containing the summary of the student if found, or empty if not found
+   */
+  @Query(SELECT_SUMMARY + " where s.code = :code")
+  Optional<StudentSummary> findSummaryByCode(@Param("code") StudentCode code);
+
+  /**
+   * Find the last modification time of a student by their student code.
+   *
+   * @param code the student code to search for
+   * @return an Optional containing the last modification time, or empty if not found
+   */
+  @Query("select s.updatedAt from Student s where s.code = :code")
+  Optional<LocalDateTime> findUpdatedAtByCode(@Param("code") StudentCode code);
+
+  /**
+   * Find which of the given profile IDs are already enrolled as students.
+   *
+   * @param profileIds the profile IDs to check
+   * @return the profile IDs that belong to an existing student
+   */
+  @Query("select s.profileId.profileId from Student s where s.profileId.profileId in :profileIds")
+  List<Long> findExistingProfileIds(@Param("profileIds") Collection<Long> profileIds);
+
+  /**
+   * Find the next page of student summaries seeking on the primary key.
+   *
+   * <p>Only the listed columns are selected, straight into the summaries, so no entity is
+   *     hydrated or tracked by the persistence context.</p>
+   *
+   * @param id the ID after which the page starts
+   * @param limit the maximum number of students to retrieve
+   * @return a list of summaries of the students with an ID greater than the given one,
+   *     ordered by ID
+   */
+  @Query(SELECT_SUMMARY + " where s.id > :id order by s.id")
+  List<StudentSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+  /**
+   * Stream the summaries of all students ordered by ID using a server-side cursor.
+   *
+   * <p>The stream must be consumed and closed inside a transaction, so the JDBC driver
+   *     can fetch the rows in chunks instead of loading the whole result set.</p>
+   *
+   * @return a stream of the summaries of all students
+   */
+  @QueryHints({
+      @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+      @QueryHint(name = "org.hibernate.readOnly", value = "true")
+  })
+  @Query(SELECT_SUMMARY + " order by s.id")
+  Stream<StudentSummary> streamAllSummariesBy();
 }
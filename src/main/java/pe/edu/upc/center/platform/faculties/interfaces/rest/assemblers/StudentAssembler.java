@@ -3,11 +3,14 @@ package pe.edu.upc.center.platform.faculties.interfaces.rest.assemblers;
 import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentCommand;
 import pe.edu.upc.center.platform.faculties.domain.model.commands.TransferProgramStudentCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.CreateStudentRequest;
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentMinimalResponse;
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentResponse;
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.TransferProgramStudentRequest;
+import pe.edu.upc.center.platform.shared.domain.model.valueobjects.BatchItemResult;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.BatchItemResponse;
 
 public class StudentAssembler {
 
@@ -32,6 +35,12 @@ public class StudentAssembler {
         entity.getCurriculumId().curriculumId(), entity.getStartPeriod());
   }
 
+  public static StudentResponse toResponseFromSummary(StudentSummary summary) {
+
+    return new StudentResponse(summary.code().code(), summary.profileId(),
+        summary.programId(), summary.curriculumId(), summary.startPeriod());
+  }
+
   public static StudentMinimalResponse toResponseMinimalFromEntity(Student entity) {
 
     return new StudentMinimalResponse(entity.getCode().code(),
@@ -39,4 +48,11 @@ public class StudentAssembler {
         entity.getStartPeriod());
   }
 
+  public static BatchItemResponse<String> toResponseFromBatchResult(
+      BatchItemResult<StudentCode> result) {
+    return result.isSuccess()
+        ? new BatchItemResponse<>(result.index(), "CREATED", result.id().code(), null)
+        : new BatchItemResponse<>(result.index(), "REJECTED", null, result.error());
+  }
+
 }
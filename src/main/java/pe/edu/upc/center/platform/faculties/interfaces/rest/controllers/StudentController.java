@@ -1,11 +1,16 @@
 package pe.edu.upc.center.platform.faculties.interfaces.rest.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -13,8 +18,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import pe.edu.upc.center.platform.faculties.domain.model.queries.GetAllStudentsQuery;
-import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentByCodeQuery;
+import org.springframework.web.context.request.NativeWebRequest;
+import pe.edu.upc.center.platform.faculties.domain.model.commands.CreateStudentsBatchCommand;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.ExportAllStudentsQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentSummaryByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentVersionByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentsPageQuery;
 import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
 import pe.edu.upc.center.platform.faculties.domain.services.StudentCommandService;
 import pe.edu.upc.center.platform.faculties.domain.services.StudentQueryService;
@@ -23,21 +32,33 @@ import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.CreateStud
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentMinimalResponse;
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.StudentResponse;
 import pe.edu.upc.center.platform.faculties.interfaces.rest.resources.TransferProgramStudentRequest;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.BatchItemResponse;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.CursorPageResponse;
+import pe.edu.upc.center.platform.shared.infrastructure.serialization.ResponseFormatNegotiator;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.ResourceVersion;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.ValidationExceptionResponse;
+import pe.edu.upc.center.platform.shared.utils.Util;
 
 @CrossOrigin(origins = "*", methods = { RequestMethod.POST, RequestMethod.GET,
     RequestMethod.PUT, RequestMethod.DELETE })
 @RestController
-@RequestMapping(value = "/api/v1/students", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/v1/students", produces = {
+    MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE })
 @Tag(name = "Students", description = "Student Management Endpoints")
 public class StudentController {
 
   private final StudentCommandService studentCommandService;
   private final StudentQueryService studentQueryService;
+  private final ObjectMapper objectMapper;
+  private final ResponseFormatNegotiator responseFormatNegotiator;
 
   public StudentController(StudentCommandService studentCommandService,
-      StudentQueryService studentQueryService) {
+      StudentQueryService studentQueryService, ObjectMapper objectMapper,
+      ResponseFormatNegotiator responseFormatNegotiator) {
     this.studentCommandService = studentCommandService;
     this.studentQueryService = studentQueryService;
+    this.objectMapper = objectMapper;
+    this.responseFormatNegotiator = responseFormatNegotiator;
   }
 
   /**
@@ -62,25 +83,16 @@ public class StudentController {
           @ApiResponse(responseCode = "400", description = "Bad request - Invalid input data",
               content = @Content(
                   mediaType = MediaType.APPLICATION_JSON_VALUE,
-                  schema = @Schema(implementation = RuntimeException.class)))
+                  schema = @Schema(implementation = ValidationExceptionResponse.class)))
       }
   )
   @PostMapping
   public ResponseEntity<StudentResponse> createStudent(
-      @RequestBody CreateStudentRequest request) {
+      @Valid @RequestBody CreateStudentRequest request) {
 
     // Create student
     var createStudentCommand = StudentAssembler.toCommandFromTransferRequest(request);
-    var studentCode = this.studentCommandService.handle(createStudentCommand);
-
-    // Validate if student code is null or blank
-    if (Objects.isNull(studentCode) || studentCode.code().isBlank()) {
-      return ResponseEntity.badRequest().build();
-    }
-
-    // Fetch student
-    var getStudentByStudentCodeQuery = new GetStudentByCodeQuery(studentCode);
-    var student = this.studentQueryService.handle(getStudentByStudentCodeQuery);
+    var student = this.studentCommandService.handle(createStudentCommand);
     if (student.isEmpty()) {
       return ResponseEntity.badRequest().build();
     }
@@ -89,12 +101,62 @@ public class StudentController {
   }
 
   /**
-   * Get all student profiles.
+   * Endpoint to enroll several students at once.
+   *
+   * <p>Every item is validated like the request of a single student. An invalid item rejects
+   *     the whole request with the same 400 body, its fields prefixed with the item index.</p>
+   *
+   * @param requests the students data to be created
+   * @return a ResponseEntity containing the result of each item, in request order
+   */
+  @Operation(summary = "Create students in bulk",
+      description = "Enrolls several profiles as students, rejecting individually those whose "
+          + "profile does not exist, is already a student or is repeated in the batch",
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Students data for creation", required = true,
+          content = @Content (
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = CreateStudentRequest.class)))),
+      responses = {
+          @ApiResponse(responseCode = "200", description = "Batch processed",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  array = @ArraySchema(schema = @Schema(implementation = BatchItemResponse.class)))),
+          @ApiResponse(responseCode = "400", description = "Bad request - Invalid input data",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = ValidationExceptionResponse.class)))
+      }
+  )
+  @PostMapping("/batch")
+  public ResponseEntity<List<BatchItemResponse<String>>> createStudents(
+      @RequestBody List<@Valid CreateStudentRequest> requests) {
+
+    var createStudentCommands = requests.stream()
+        .map(StudentAssembler::toCommandFromTransferRequest)
+        .collect(Collectors.toList());
+    var results = this.studentCommandService.handle(
+        new CreateStudentsBatchCommand(createStudentCommands));
+
+    var batchItemResponses = results.stream()
+        .map(StudentAssembler::toResponseFromBatchResult)
+        .collect(Collectors.toList());
+    return ResponseEntity.ok(batchItemResponses);
+  }
+
+  /**
+   * Get all the students as a JSON array.
    *
-   * @return a ResponseEntity containing a list of StudentResource
+   * <p>Used when neither {@code after} nor {@code limit} is given, so the response keeps the
+   *     array shape of the endpoint before pagination. Students are read through a database
+   *     cursor and written to the response one by one, so memory use stays constant regardless
+   *     of the number of students.</p>
+   *
+   * @param response the HTTP response the students are written to
+   * @throws IOException if writing to the response fails
    */
   @Operation( summary = "Retrieve all students",
-      description = "Retrieves all students in the system.",
+      description = "Streams all students in the system as a JSON array when no page is requested.",
       responses = {
           @ApiResponse(responseCode = "200", description = "Students retrieved successfully",
               content = @Content(
@@ -102,21 +164,100 @@ public class StudentController {
                   array = @ArraySchema(schema = @Schema(implementation = StudentResponse.class)) ) )
       }
   )
+  @GetMapping(params = { "!after", "!limit" }, produces = MediaType.APPLICATION_JSON_VALUE)
+  public void getAllStudents(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    try (var writer = this.objectMapper.writerFor(StudentResponse.class)
+        .writeValuesAsArray(response.getOutputStream())) {
+      this.studentQueryService.handle(new ExportAllStudentsQuery(), student -> {
+        try {
+          writer.write(StudentAssembler.toResponseFromSummary(student));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
+
+  /**
+   * Get a page of student profiles.
+   *
+   * <p>Requests without parameters that do not accept JSON get the first page.</p>
+   *
+   * @param after optional cursor returned as nextCursor by the previous page
+   * @param limit optional maximum number of students per page
+   * @return a ResponseEntity containing a page of StudentResource
+   */
+  @Operation( summary = "Retrieve a page of students",
+      description = "Retrieves a page of students in the system using cursor pagination.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "Students retrieved successfully",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = CursorPageResponse.class) ) )
+      }
+  )
   @GetMapping
-  public ResponseEntity<List<StudentResponse>> getAllStudents() {
-    var getAllStudentsQuery = new GetAllStudentsQuery();
-    var students = this.studentQueryService.handle(getAllStudentsQuery);
+  public ResponseEntity<CursorPageResponse<StudentResponse>> getStudentsPage(
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Integer limit) {
+    var pageLimit = Objects.requireNonNullElse(limit, Util.DEFAULT_PAGE_LIMIT);
+    var getStudentsPageQuery = new GetStudentsPageQuery(Objects.requireNonNullElse(after, 0L),
+        pageLimit);
+    var students = this.studentQueryService.handle(getStudentsPageQuery);
     var studentResponses = students.stream()
-        .map(StudentAssembler::toResponseFromEntity)
+        .map(StudentAssembler::toResponseFromSummary)
         .collect(Collectors.toList());
-    return ResponseEntity.ok(studentResponses);
+    var nextCursor = students.hasNext() ? students.getContent().getLast().id() : null;
+    return ResponseEntity.ok(new CursorPageResponse<>(studentResponses, pageLimit, nextCursor));
+  }
+
+  /**
+   * Export all students as newline-delimited JSON.
+   *
+   * <p>Students are read through a database cursor and written to the response one by one,
+   *     so memory use stays constant regardless of the number of students.</p>
+   *
+   * @param response the HTTP response the students are written to
+   * @throws IOException if writing to the response fails
+   */
+  @Operation( summary = "Export all students",
+      description = "Streams all students in the system as newline-delimited JSON.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "Students exported successfully",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                  schema = @Schema(implementation = StudentResponse.class) ) )
+      }
+  )
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportStudents(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    try (var writer = this.objectMapper.writerFor(StudentResponse.class)
+        .withRootValueSeparator("\n")
+        .writeValues(response.getOutputStream())) {
+      this.studentQueryService.handle(new ExportAllStudentsQuery(), student -> {
+        try {
+          writer.write(StudentAssembler.toResponseFromSummary(student));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
   }
 
   /**
    * Get a student profile by student code.
    *
+   * <p>The response carries an ETag and a Last-Modified header. Conditional requests are
+   *     answered with 304 from the student modification time alone, without loading the
+   *     student. The JSON and CBOR representations have their own ETags and the response varies
+   *     by Accept.</p>
+   *
    * @param studentCode the student code of the profile to be retrieved
-   * @return a ResponseEntity containing the StudentResource or a bad request status if not found
+   * @param webRequest the current request, checked for If-None-Match and If-Modified-Since
+   * @return a ResponseEntity containing the StudentResource or a not found status, or null once
+   *     a 304 status has been set
    */
   @Operation(summary = "Retrieve a Student by its ID",
       description = "Retrieves a Student using its unique ID",
@@ -124,18 +265,30 @@ public class StudentController {
           @ApiResponse(responseCode = "200", description = "Student retrieved successfully",
               content = @Content(
                   mediaType = MediaType.APPLICATION_JSON_VALUE,
-                  schema = @Schema(implementation = StudentResponse.class)))
+                  schema = @Schema(implementation = StudentResponse.class))),
+          @ApiResponse(responseCode = "304", description = "Student not modified")
       }
   )
   @GetMapping("/{studentCode}")
-  public ResponseEntity<StudentResponse> getStudentByStudentCode(@PathVariable String studentCode) {
-    var getStudentByStudentCodeQuery = new GetStudentByCodeQuery(
-        new StudentCode(studentCode));
-    var optionalStudent = this.studentQueryService.handle(getStudentByStudentCodeQuery);
+  public ResponseEntity<StudentResponse> getStudentByStudentCode(@PathVariable String studentCode,
+                                                                 NativeWebRequest webRequest) {
+    var code = new StudentCode(studentCode);
+    var updatedAt = this.studentQueryService.handle(new GetStudentVersionByCodeQuery(code));
+    if (updatedAt.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    var format = this.responseFormatNegotiator.negotiate(webRequest);
+    var version = ResourceVersion.of(updatedAt.get()).forFormat(format);
+    if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+      return null;
+    }
+
+    var getStudentSummaryByCodeQuery = new GetStudentSummaryByCodeQuery(code);
+    var optionalStudent = this.studentQueryService.handle(getStudentSummaryByCodeQuery);
     if (optionalStudent.isEmpty()) {
       return ResponseEntity.notFound().build();
     }
-    var studentResponse = StudentAssembler.toResponseFromEntity(optionalStudent.get());
+    var studentResponse = StudentAssembler.toResponseFromSummary(optionalStudent.get());
     return ResponseEntity.ok(studentResponse);
   }
 
@@ -2,6 +2,8 @@ package pe.edu.upc.center.platform.faculties.interfaces.rest.resources;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 /**
  * Request to create a student.
@@ -10,7 +12,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @param programId   the ID of the program the student is enrolling in
  * @param curriculumId the ID of the curriculum the student will follow
  */
-public record CreateStudentRequest(Long profileId, Long programId, Long curriculumId) {
+public record CreateStudentRequest(
+    @NotNull @Positive Long profileId,
+    @NotNull @Positive Long programId,
+    @NotNull @Positive Long curriculumId) {
 
   @JsonCreator
   public CreateStudentRequest(@JsonProperty("profileId") Long profileId,
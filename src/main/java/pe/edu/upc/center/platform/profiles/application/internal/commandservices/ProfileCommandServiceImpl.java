@@ -1,97 +1,275 @@
 package pe.edu.upc.center.platform.profiles.application.internal.commandservices;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import pe.edu.upc.center.platform.profiles.domain.exceptions.ProfileNotfoundException;
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfileCommand;
+import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfilesBatchCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.DeleteProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.UpdateProfileCommand;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.Document;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.EmailAddress;
 import pe.edu.upc.center.platform.profiles.domain.services.ProfileCommandService;
 import pe.edu.upc.center.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+import pe.edu.upc.center.platform.shared.domain.model.valueobjects.BatchItemResult;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
+import pe.edu.upc.center.platform.shared.utils.Util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of ProfileCommandService.
+ *
+ * <p>Each command runs in one transaction, so the domain events registered by the profiles are
+ *     recorded in the outbox together with the change. Batches commit one transaction per
+ *     chunk, and a chunk rejected by the database is retried one profile per transaction, so
+ *     one bad row only rejects its own item.</p>
  */
 @Service
 public class ProfileCommandServiceImpl implements ProfileCommandService {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProfileCommandServiceImpl.class);
+
+  /**
+   * Error reported for a batch item the database rejected for an unexpected reason, whose
+   * details are logged instead of returned.
+   */
+  private static final String BATCH_ITEM_SAVE_ERROR = "Profile could not be saved";
+
   private final ProfileRepository profileRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
 
   /**
    * Constructor for ProfileCommandServiceImpl.
    *
    * @param profileRepository the profile repository
+   * @param transactionManager the transaction manager used to commit batches in chunks
+   * @param entityManager the entity manager cleared after each batch chunk
    */
-  public ProfileCommandServiceImpl(ProfileRepository profileRepository) {
+  public ProfileCommandServiceImpl(ProfileRepository profileRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   EntityManager entityManager) {
     this.profileRepository = profileRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.entityManager = entityManager;
   }
 
   @Override
-  public Long handle(CreateProfileCommand command) {
+  @Transactional
+  public Optional<Profile> handle(CreateProfileCommand command) {
 
-    // Validate if the profile already exists
-    if (this.profileRepository.existsByEmail(command.email())) {
-      throw new IllegalArgumentException("Profile with email " + command.email()
-          + " already exists");
-    }
-    if (this.profileRepository.existsByDocument(command.document())) {
-      throw new IllegalArgumentException("Profile with document " + command.document()
-          + " already exists");
-    }
-    // Create the profile
+    // Create the profile, the unique constraints reject an existing email or document
     var profile = new Profile(command);
     try {
-      this.profileRepository.save(profile);
+      this.profileRepository.saveAndFlush(profile);
+    } catch (DataIntegrityViolationException e) {
+      throw translateIntegrityViolation(e, command.email(), command.document(),
+          "Error while saving profile: ");
     } catch (Exception e) {
       throw new PersistenceException("Error while saving profile: " + e.getMessage());
     }
-    return profile.getId();
+    return Optional.of(profile);
   }
 
   @Override
-  public Optional<Profile> handle(UpdateProfileCommand command) {
+  public List<BatchItemResult<Long>> handle(CreateProfilesBatchCommand command) {
+    var commands = command.commands();
+    List<BatchItemResult<Long>> results = new ArrayList<>(
+        Collections.nCopies(commands.size(), null));
 
-    // Validate if the profile already exists
-    var profileId = command.profileId();
-    if (!this.profileRepository.existsById(profileId)) {
-      throw new ProfileNotfoundException(profileId);
+    // Validate uniqueness against the database with one query per key and chunk
+    var existingEmails = new HashSet<String>();
+    var addresses = commands.stream().map(item -> item.email().address()).distinct().toList();
+    for (var chunk : Util.partition(addresses, Util.IN_CLAUSE_CHUNK_SIZE)) {
+      existingEmails.addAll(this.profileRepository.findExistingEmailAddresses(chunk));
+    }
+    Set<Document> existingDocuments = new HashSet<>();
+    var numbers = commands.stream().map(item -> item.document().number()).distinct().toList();
+    for (var chunk : Util.partition(numbers, Util.IN_CLAUSE_CHUNK_SIZE)) {
+      existingDocuments.addAll(this.profileRepository.findDocumentsByNumberIn(chunk));
+    }
+
+    // Validate uniqueness inside the batch and collect the items to create
+    var batchEmails = new HashSet<String>();
+    var batchDocuments = new HashSet<Document>();
+    var indexesToCreate = new ArrayList<Integer>();
+    for (int index = 0; index < commands.size(); index++) {
+      var item = commands.get(index);
+      if (existingEmails.contains(item.email().address())) {
+        results.set(index, BatchItemResult.failure(index, "Profile with email " + item.email()
+            + " already exists"));
+      } else if (existingDocuments.contains(item.document())) {
+        results.set(index, BatchItemResult.failure(index, "Profile with document "
+            + item.document() + " already exists"));
+      } else if (!batchEmails.add(item.email().address())) {
+        results.set(index, BatchItemResult.failure(index, "Profile with email " + item.email()
+            + " is duplicated in the batch"));
+      } else if (!batchDocuments.add(item.document())) {
+        results.set(index, BatchItemResult.failure(index, "Profile with document "
+            + item.document() + " is duplicated in the batch"));
+      } else {
+        indexesToCreate.add(index);
+      }
     }
-    if (this.profileRepository.existsByEmailAndIdIsNot(command.email(), profileId)) {
-      throw new IllegalArgumentException("Profile with email " + command.email()
-          + " already exists");
+
+    // Create the profiles, committing one transaction per chunk
+    for (var chunk : Util.partition(indexesToCreate, Util.BATCH_CHUNK_SIZE)) {
+      try {
+        var ids = createProfiles(commands, chunk);
+        for (int i = 0; i < chunk.size(); i++) {
+          results.set(chunk.get(i), BatchItemResult.success(chunk.get(i), ids.get(i)));
+        }
+      } catch (DataAccessException | PersistenceException e) {
+        // The whole chunk was rolled back, retry its profiles one by one to isolate the failure
+        LOGGER.warn("Profile batch chunk of {} items rejected, retrying item by item: {}",
+            chunk.size(), e.getMessage());
+        for (var index : chunk) {
+          try {
+            var ids = createProfiles(commands, List.of(index));
+            results.set(index, BatchItemResult.success(index, ids.getFirst()));
+          } catch (DataAccessException | PersistenceException itemException) {
+            results.set(index, BatchItemResult.failure(index,
+                batchItemError(itemException, commands.get(index))));
+          }
+        }
+      }
     }
-    if (this.profileRepository.existsByDocumentAndIdIsNot(command.document(), profileId)) {
-      throw new IllegalArgumentException("Profile with document " + command.document()
-          + " already exists");
+    return results;
+  }
+
+  /**
+   * Creates the profiles of the given batch items in one transaction.
+   *
+   * @param commands the commands of the batch
+   * @param indexes the indexes of the items to create
+   * @return the IDs of the created profiles, in the order of the indexes
+   */
+  private List<Long> createProfiles(List<CreateProfileCommand> commands, List<Integer> indexes) {
+    var profiles = indexes.stream().map(index -> new Profile(commands.get(index))).toList();
+    try {
+      this.transactionTemplate.executeWithoutResult(status ->
+          this.profileRepository.saveAllAndFlush(profiles));
+      return profiles.stream().map(Profile::getId).toList();
+    } finally {
+      this.entityManager.clear();
     }
+  }
 
-    // Update the profile
-    var profileToUpdate = this.profileRepository.findById(profileId).get();
+  /**
+   * Returns the error reported for a batch item the database rejected.
+   *
+   * @param exception the exception raised while saving the item
+   * @param command the command of the item
+   * @return the message of a violated unique constraint, or a generic message
+   */
+  private String batchItemError(RuntimeException exception, CreateProfileCommand command) {
+    if (exception instanceof DataIntegrityViolationException violation) {
+      var message = uniqueConstraintMessage(violation, command.email(), command.document());
+      if (Objects.nonNull(message)) {
+        return message;
+      }
+    }
+    LOGGER.warn("Unable to save batch profile with email {}: {}", command.email(),
+        exception.getMessage());
+    return BATCH_ITEM_SAVE_ERROR;
+  }
+
+  @Override
+  @CacheEvict(cacheNames = CachingConfiguration.PROFILES_CACHE, key = "#command.profileId()")
+  @Transactional
+  public Optional<Profile> handle(UpdateProfileCommand command) {
+
+    // Validate if the profile already exists
+    var profileId = command.profileId();
+    var profileToUpdate = this.profileRepository.findById(profileId)
+        .orElseThrow(() -> new ProfileNotfoundException(profileId));
+
+    // Update the profile, the unique constraints reject an email or document of another profile
     profileToUpdate.updateProfile(command);
 
     try {
-      var updatedProfile = this.profileRepository.save(profileToUpdate);
+      var updatedProfile = this.profileRepository.saveAndFlush(profileToUpdate);
       return Optional.of(updatedProfile);
+    } catch (DataIntegrityViolationException e) {
+      throw translateIntegrityViolation(e, command.email(), command.document(),
+          "Error while updating profile: ");
     } catch (Exception e) {
       throw new PersistenceException("Error while updating profile: " + e.getMessage());
     }
   }
 
   @Override
+  @CacheEvict(cacheNames = CachingConfiguration.PROFILES_CACHE, key = "#command.profileId()")
+  @Transactional
   public void handle(DeleteProfileCommand command) {
     // If the profile does not exist, throw an exception
-    if (!this.profileRepository.existsById(command.profileId())) {
-      throw new ProfileNotfoundException(command.profileId());
-    }
+    var profile = this.profileRepository.findById(command.profileId())
+        .orElseThrow(() -> new ProfileNotfoundException(command.profileId()));
 
     // Try to delete the profile, if an error occurs, throw an exception
     try {
-      this.profileRepository.deleteById(command.profileId());
+      this.profileRepository.delete(profile);
     } catch (Exception e) {
       throw new PersistenceException("Error while deleting profile: " + e.getMessage());
     }
   }
+
+  /**
+   * Translates a violation of the profile unique constraints into the validation error
+   * reported for the offending field.
+   *
+   * @param exception the exception raised by the database
+   * @param email the email of the profile being saved
+   * @param document the document of the profile being saved
+   * @param message the prefix of the message used for any other integrity violation
+   * @return the exception to throw
+   */
+  private RuntimeException translateIntegrityViolation(DataIntegrityViolationException exception,
+                                                       EmailAddress email, Document document,
+                                                       String message) {
+    var constraintMessage = uniqueConstraintMessage(exception, email, document);
+    if (Objects.nonNull(constraintMessage)) {
+      return new IllegalArgumentException(constraintMessage);
+    }
+    return new PersistenceException(message + exception.getMessage());
+  }
+
+  /**
+   * Returns the message of a violation of the profile unique constraints.
+   *
+   * @param exception the exception raised by the database
+   * @param email the email of the profile being saved
+   * @param document the document of the profile being saved
+   * @return the message naming the duplicated field, or {@code null} for any other violation
+   */
+  private static String uniqueConstraintMessage(DataIntegrityViolationException exception,
+                                                EmailAddress email, Document document) {
+    var constraintName = exception.getCause() instanceof ConstraintViolationException violation
+        ? violation.getConstraintName() : null;
+    if (Profile.EMAIL_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+      return "Profile with email " + email + " already exists";
+    }
+    if (Profile.DOCUMENT_UNIQUE_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+      return "Profile with document " + document + " already exists";
+    }
+    return null;
+  }
 }
@@ -1,28 +1,60 @@
 package pe.edu.upc.center.platform.profiles.application.internal.queryservices;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
 import pe.edu.upc.center.platform.profiles.domain.model.queries.*;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
 import pe.edu.upc.center.platform.profiles.domain.services.ProfileQueryService;
 import pe.edu.upc.center.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
+import pe.edu.upc.center.platform.shared.utils.Util;
 
 /**
  * Implementation of the ProfileQueryService interface.
+ *
+ * <p>Queries run in read-only transactions, so Hibernate neither keeps snapshots of the loaded
+ *     profiles nor dirty-checks them on flush.</p>
  */
 @Service
+@Transactional(readOnly = true)
 public class ProfileQueryServiceImpl implements ProfileQueryService {
 
+  /**
+   * Shortest normalized text, in code points, searched with the trigram index, shorter texts
+   * have no trigram and are searched as a prefix.
+   */
+  private static final int MIN_TRIGRAM_SEARCH_LENGTH = 3;
+
   private final ProfileRepository profileRepository;
+  private final CacheManager cacheManager;
 
   /**
    * Constructor for ProfileQueryServiceImpl.
    *
    * @param profileRepository the repository to access profile data
+   * @param cacheManager the cache manager holding the cached profiles
    */
-  public ProfileQueryServiceImpl(ProfileRepository profileRepository) {
+  public ProfileQueryServiceImpl(ProfileRepository profileRepository,
+                                 CacheManager cacheManager) {
     this.profileRepository = profileRepository;
+    this.cacheManager = cacheManager;
   }
 
   @Override
@@ -30,11 +62,45 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
     return this.profileRepository.findAll();
   }
 
+  @Override
+  public Slice<ProfileSummary> handle(GetProfilesPageQuery query) {
+    var profiles = this.profileRepository.findSummariesByIdGreaterThan(query.afterId(),
+        Limit.of(query.limit() + 1));
+    var hasNext = profiles.size() > query.limit();
+    return new SliceImpl<>(hasNext ? profiles.subList(0, query.limit()) : profiles,
+        PageRequest.ofSize(query.limit()), hasNext);
+  }
+
+  @Override
+  public void handle(ExportAllProfilesQuery query, Consumer<ProfileSummary> consumer) {
+    try (var profiles = this.profileRepository.streamAllSummariesBy()) {
+      profiles.forEach(consumer);
+    }
+  }
+
   @Override
   public Optional<Profile> handle(GetProfileByIdQuery query) {
     return this.profileRepository.findById(query.profileId());
   }
 
+  @Override
+  @Cacheable(cacheNames = CachingConfiguration.PROFILES_CACHE, key = "#query.profileId()",
+      unless = "#result == null")
+  public Optional<ProfileSummary> handle(GetProfileSummaryByIdQuery query) {
+    return this.profileRepository.findSummaryById(query.profileId());
+  }
+
+  @Override
+  public Optional<LocalDateTime> handle(GetProfileVersionByIdQuery query) {
+    var profiles = this.cacheManager.getCache(CachingConfiguration.PROFILES_CACHE);
+    var cachedProfile = Objects.isNull(profiles) ? null
+        : profiles.get(query.profileId(), ProfileSummary.class);
+    if (Objects.nonNull(cachedProfile)) {
+      return Optional.of(cachedProfile.updatedAt());
+    }
+    return this.profileRepository.findUpdatedAtById(query.profileId());
+  }
+
   @Override
   public Optional<Profile> handle(GetProfileByNameQuery query) {
     return this.profileRepository.findByName(query.name());
@@ -42,7 +108,14 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
 
   @Override
   public List<Profile> handle(GetProfileByAgeQuery query) {
-    return this.profileRepository.findByAge(query.age());
+    return handle(new GetProfilesByAgeRangeQuery(query.age(), query.age()));
+  }
+
+  @Override
+  public List<Profile> handle(GetProfilesByAgeRangeQuery query) {
+    var today = LocalDate.now();
+    return this.profileRepository.findByBirthDateBetween(query.birthDateFrom(today),
+        query.birthDateTo(today));
   }
 
   @Override
@@ -55,4 +128,75 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
     return this.profileRepository.existsById(query.profileId());
   }
 
+  @Override
+  public Set<Long> handle(GetExistingProfileIdsQuery query) {
+    var existingIds = new HashSet<Long>(query.profileIds().size() * 2);
+    for (var chunk : Util.partition(query.profileIds(), Util.IN_CLAUSE_CHUNK_SIZE)) {
+      existingIds.addAll(this.profileRepository.findExistingIds(chunk));
+    }
+    return existingIds;
+  }
+
+  @Override
+  public List<Profile> handle(GetProfilesByIdsQuery query) {
+    var profiles = new ArrayList<Profile>(query.profileIds().size());
+    for (var chunk : Util.partition(query.profileIds(), Util.IN_CLAUSE_CHUNK_SIZE)) {
+      profiles.addAll(this.profileRepository.findAllById(chunk));
+    }
+    return profiles;
+  }
+
+  @Override
+  public List<Profile> handle(SearchProfilesByNameQuery query) {
+    var text = PersonName.normalizeForSearch(query.text());
+    if (text.isEmpty()) {
+      return List.of();
+    }
+    if (text.codePointCount(0, text.length()) < MIN_TRIGRAM_SEARCH_LENGTH) {
+      var next = nextPrefix(text);
+      return Objects.isNull(next)
+          ? this.profileRepository.searchBySearchNameFrom(text, query.limit())
+          : this.profileRepository.searchBySearchNameStartingWith(text, next, query.limit());
+    }
+    return this.profileRepository.searchBySearchNameContaining("%" + escapeLike(text) + "%",
+        text, query.limit());
+  }
+
+  private static String escapeLike(String text) {
+    var escaped = new StringBuilder(text.length() + 8);
+    for (var character : text.toCharArray()) {
+      if (character == '\\' || character == '%' || character == '_') {
+        escaped.append('\\');
+      }
+      escaped.append(character);
+    }
+    return escaped.toString();
+  }
+
+  /**
+   * Computes the first string after all the strings that start with a prefix, in code point
+   * order.
+   *
+   * <p>The last code point is incremented, skipping the surrogate range so the result stays
+   *     valid text. Trailing maximum code points have no successor and are dropped first.</p>
+   *
+   * @param prefix the normalized prefix
+   * @return the first string after the prefix range, or {@code null} when every string from the
+   *     prefix on starts with it
+   */
+  private static String nextPrefix(String prefix) {
+    var end = prefix.length();
+    while (end > 0) {
+      var codePoint = prefix.codePointBefore(end);
+      end -= Character.charCount(codePoint);
+      if (codePoint < Character.MAX_CODE_POINT) {
+        var next = codePoint + 1;
+        if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+          next = Character.MAX_SURROGATE + 1;
+        }
+        return prefix.substring(0, end) + Character.toString(next);
+      }
+    }
+    return null;
+  }
 }
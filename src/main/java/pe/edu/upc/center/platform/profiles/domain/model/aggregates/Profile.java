@@ -7,18 +7,33 @@ import jakarta.validation.constraints.Past;
 import lombok.Getter;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.UpdateProfileCommand;
+import pe.edu.upc.center.platform.profiles.domain.model.events.ProfileCreatedEvent;
+import pe.edu.upc.center.platform.profiles.domain.model.events.ProfileDeletedEvent;
+import pe.edu.upc.center.platform.profiles.domain.model.events.ProfileUpdatedEvent;
 import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.*;
 import pe.edu.upc.center.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Represents a user profile in the system.
  */
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", uniqueConstraints = {
+    @UniqueConstraint(name = Profile.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email_address"),
+    @UniqueConstraint(name = Profile.DOCUMENT_UNIQUE_CONSTRAINT,
+        columnNames = {"document_type", "document_number"})
+}, indexes = {
+    @Index(name = "idx_profiles_document_number", columnList = "document_number"),
+    @Index(name = "idx_profiles_name", columnList = "first_name, last_name"),
+    @Index(name = "idx_profiles_birth_date", columnList = "birth_date")
+})
 public class Profile extends AuditableAbstractAggregateRoot<Profile> {
 
+  public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_profiles_email_address";
+  public static final String DOCUMENT_UNIQUE_CONSTRAINT = "uk_profiles_document";
+
   @Getter
   @Embedded
   @AttributeOverrides({
@@ -29,6 +44,13 @@ public class Profile extends AuditableAbstractAggregateRoot<Profile> {
   })
   private PersonName name;
 
+  /**
+   * Full name normalized for search, kept in sync with the name and indexed for trigram and
+   * prefix matching.
+   */
+  @Column(name = "search_name", length = 101)
+  private String searchName;
+
   @Getter
   @Embedded
   @AttributeOverrides({
@@ -45,7 +67,6 @@ public class Profile extends AuditableAbstractAggregateRoot<Profile> {
   @Temporal(TemporalType.DATE)
   private LocalDate birthDate;
 
-  @Getter
   @Min(0)
   @Max(100)
   @Column(name = "age", columnDefinition = "smallint", nullable = false)
@@ -86,6 +107,7 @@ public class Profile extends AuditableAbstractAggregateRoot<Profile> {
    */
   public Profile(CreateProfileCommand command) {
     this.name = command.name();
+    this.searchName = this.name.getSearchName();
     this.document = command.document();
     this.birthDate = command.birthDate();
     this.age = command.age();
@@ -98,11 +120,29 @@ public class Profile extends AuditableAbstractAggregateRoot<Profile> {
    */
   public void updateProfile(UpdateProfileCommand command) {
     this.name = command.name();
+    this.searchName = this.name.getSearchName();
     this.document = command.document();
     this.birthDate = command.birthDate();
     this.age = command.age();
     this.email = command.email();
     this.address = command.address();
+    registerEvent(new ProfileUpdatedEvent(getId()));
+  }
+
+  /**
+   * Registers the created event once the profile has been assigned its ID.
+   */
+  @PostPersist
+  private void onCreated() {
+    registerEvent(new ProfileCreatedEvent(getId()));
+  }
+
+  /**
+   * Registers the deleted event when the profile is removed.
+   */
+  @PreRemove
+  private void onDeleted() {
+    registerEvent(new ProfileDeletedEvent(getId()));
   }
 
   // Evaluar si se requieren
@@ -116,6 +156,7 @@ public class Profile extends AuditableAbstractAggregateRoot<Profile> {
   }
   public void updateName(String firstName, String lastName) {
     this.name = new PersonName(firstName, lastName);
+    this.searchName = this.name.getSearchName();
   }
 
   public void updateEmail(String email) {
@@ -126,6 +167,17 @@ public class Profile extends AuditableAbstractAggregateRoot<Profile> {
     this.address = new StreetAddress(street, number, city, postalCode, country);
   }
 
+  /**
+   * Returns the current age, derived from the birthdate so that it never goes stale.
+   *
+   * <p>The stored age column is only the age at the last create or update.</p>
+   *
+   * @return the age in complete years
+   */
+  public int getAge() {
+    return (int) ChronoUnit.YEARS.between(birthDate, LocalDate.now());
+  }
+
   public String getFullName() {
     return name.getFullName();
   }
@@ -0,0 +1,23 @@
+package pe.edu.upc.center.platform.profiles.domain.model.commands;
+
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command to create several profiles at once.
+ *
+ * @param commands the commands for each profile to create, in request order
+ */
+public record CreateProfilesBatchCommand(List<CreateProfileCommand> commands) {
+
+  public CreateProfilesBatchCommand {
+    Objects.requireNonNull(commands, "commands must not be null");
+
+    if (commands.isEmpty() || commands.size() > Util.MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("the batch must contain between 1 and "
+          + Util.MAX_BATCH_SIZE + " profiles");
+    }
+  }
+}
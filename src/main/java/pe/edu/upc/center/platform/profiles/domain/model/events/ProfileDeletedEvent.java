@@ -0,0 +1,21 @@
+package pe.edu.upc.center.platform.profiles.domain.model.events;
+
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+
+/**
+ * Event registered by a Profile aggregate when it is removed.
+ *
+ * @param profileId the ID of the deleted profile
+ */
+public record ProfileDeletedEvent(Long profileId) implements DomainEvent {
+
+  @Override
+  public String aggregateType() {
+    return "Profile";
+  }
+
+  @Override
+  public String aggregateId() {
+    return String.valueOf(profileId);
+  }
+}
@@ -0,0 +1,50 @@
+package pe.edu.upc.center.platform.profiles.domain.model.projections;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.Document;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.EmailAddress;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.StreetAddress;
+
+/**
+ * Read-only view of a profile with the columns needed to list it and to version it.
+ *
+ * <p>It is selected directly by the repository, so listing profiles does not hydrate the
+ *     entities nor keep them in the persistence context. Being immutable, it is also what the
+ *     profiles cache holds.</p>
+ *
+ * @param id        the profile ID
+ * @param name      the name of the profile
+ * @param document  the identity document
+ * @param birthDate the birthdate of the profile
+ * @param email     the email address
+ * @param address   the physical address
+ * @param updatedAt the last modification time of the profile
+ */
+public record ProfileSummary(Long id, PersonName name, Document document, LocalDate birthDate,
+                             EmailAddress email, StreetAddress address,
+                             LocalDateTime updatedAt) {
+
+  /**
+   * Returns the current age, derived from the birthdate like the one of the profile.
+   *
+   * @return the age in complete years
+   */
+  public int getAge() {
+    return (int) ChronoUnit.YEARS.between(birthDate, LocalDate.now());
+  }
+
+  public String getFullName() {
+    return name.getFullName();
+  }
+
+  public String getFullDocument() {
+    return document.getFullDocument();
+  }
+
+  public String getFullAddress() {
+    return address.getFullAddress();
+  }
+}
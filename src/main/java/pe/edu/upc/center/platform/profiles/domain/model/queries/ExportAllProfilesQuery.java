@@ -0,0 +1,7 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+/**
+ * Query to export all profiles one by one without loading them all in memory.
+ */
+public record ExportAllProfilesQuery() {
+}
@@ -0,0 +1,23 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+import java.util.List;
+import java.util.Objects;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * This class represents the query to find which of the given profile ids exist.
+ *
+ * @param profileIds - the ids of the profiles.
+ */
+public record GetExistingProfileIdsQuery(List<Long> profileIds) {
+
+  public GetExistingProfileIdsQuery {
+    if (Objects.isNull(profileIds)) {
+      throw new IllegalArgumentException("profile ids cannot be null");
+    }
+    if (profileIds.size() > Util.MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("cannot look up more than " + Util.MAX_BATCH_SIZE
+          + " profile ids at once");
+    }
+  }
+}
@@ -1,9 +1,22 @@
 package pe.edu.upc.center.platform.profiles.domain.model.queries;
 
+import pe.edu.upc.center.platform.shared.utils.Util;
+
 /**
  * Query to get profiles by age.
  *
+ * <p>The age is derived from the birthdate, see {@link GetProfilesByAgeRangeQuery}.</p>
+ *
  * @param age the age to filter profiles
  */
 public record GetProfileByAgeQuery(int age) {
+
+  public GetProfileByAgeQuery {
+    if (age < 0) {
+      throw new IllegalArgumentException("age cannot be negative");
+    }
+    if (age > Util.MAX_AGE) {
+      throw new IllegalArgumentException("age cannot be greater than " + Util.MAX_AGE);
+    }
+  }
 }
@@ -0,0 +1,9 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+/**
+ * Query to get the summary of a profile by its ID.
+ *
+ * @param profileId the ID of the profile to retrieve
+ */
+public record GetProfileSummaryByIdQuery(Long profileId) {
+}
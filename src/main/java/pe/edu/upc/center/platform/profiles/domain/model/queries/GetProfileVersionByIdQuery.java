@@ -0,0 +1,9 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+/**
+ * Query to get the last modification time of a profile, without loading the profile.
+ *
+ * @param profileId the ID of the profile
+ */
+public record GetProfileVersionByIdQuery(Long profileId) {
+}
@@ -0,0 +1,51 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+import java.time.LocalDate;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * Query to get profiles whose current age is within a range, both ends included.
+ *
+ * <p>The ages are translated into a range of birthdates, so the profiles are found with a range
+ *     scan on the birthdate index and the result is correct on any day.</p>
+ *
+ * <p>Both ages must be between 0 and {@link Util#MAX_AGE}, which also keeps the birthdates
+ *     within the range of {@link LocalDate}.</p>
+ *
+ * @param minAge the minimum age
+ * @param maxAge the maximum age
+ */
+public record GetProfilesByAgeRangeQuery(int minAge, int maxAge) {
+
+  public GetProfilesByAgeRangeQuery {
+    if (minAge < 0) {
+      throw new IllegalArgumentException("minAge cannot be negative");
+    }
+    if (maxAge < minAge) {
+      throw new IllegalArgumentException("maxAge cannot be less than minAge");
+    }
+    if (maxAge > Util.MAX_AGE) {
+      throw new IllegalArgumentException("maxAge cannot be greater than " + Util.MAX_AGE);
+    }
+  }
+
+  /**
+   * Returns the earliest birthdate of a profile aged at most maxAge on the given day.
+   *
+   * @param today the day the ages are computed on
+   * @return the first birthdate of the range
+   */
+  public LocalDate birthDateFrom(LocalDate today) {
+    return today.minusYears(maxAge + 1L).plusDays(1);
+  }
+
+  /**
+   * Returns the latest birthdate of a profile aged at least minAge on the given day.
+   *
+   * @param today the day the ages are computed on
+   * @return the last birthdate of the range
+   */
+  public LocalDate birthDateTo(LocalDate today) {
+    return today.minusYears(minAge);
+  }
+}
@@ -0,0 +1,23 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+import java.util.Objects;
+
+/**
+ * Query to get a page of profiles using keyset pagination on the profile ID.
+ *
+ * @param afterId the ID of the last profile of the previous page, 0 for the first page
+ * @param limit   the maximum number of profiles to retrieve
+ */
+public record GetProfilesPageQuery(Long afterId, int limit) {
+
+  public GetProfilesPageQuery {
+    if (Objects.isNull(afterId) || afterId < 0) {
+      throw new IllegalArgumentException("after cursor cannot be null or negative");
+    }
+    if (limit < 1 || limit > Util.MAX_PAGE_LIMIT) {
+      throw new IllegalArgumentException("limit must be between 1 and " + Util.MAX_PAGE_LIMIT);
+    }
+  }
+}
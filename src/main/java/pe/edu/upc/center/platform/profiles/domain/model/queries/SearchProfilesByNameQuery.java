@@ -0,0 +1,27 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+import java.util.Objects;
+
+/**
+ * Query to search profiles whose full name contains a text, ignoring case and accents.
+ *
+ * @param text  the text to search for in the first and last name
+ * @param limit the maximum number of profiles to retrieve, best matches first
+ */
+public record SearchProfilesByNameQuery(String text, int limit) {
+
+  public SearchProfilesByNameQuery {
+    if (Objects.isNull(text) || text.isBlank()) {
+      throw new IllegalArgumentException("text cannot be null or blank");
+    }
+    if (text.length() > Util.MAX_SEARCH_TEXT_LENGTH) {
+      throw new IllegalArgumentException("text cannot be longer than "
+          + Util.MAX_SEARCH_TEXT_LENGTH + " characters");
+    }
+    if (limit < 1 || limit > Util.MAX_SEARCH_LIMIT) {
+      throw new IllegalArgumentException("limit must be between 1 and " + Util.MAX_SEARCH_LIMIT);
+    }
+  }
+}
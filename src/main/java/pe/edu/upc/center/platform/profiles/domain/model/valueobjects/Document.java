@@ -17,32 +17,27 @@ public record Document(@NotNull @NotBlank DocumentTypes type,
                        @NotNull @NotBlank String number) {
 
   public Document {
-    if (Objects.isNull(type) || type.toString().isBlank()) {
+    if (Objects.isNull(type)) {
       throw new IllegalArgumentException("Document type cannot be null or blank");
     }
     if (Objects.isNull(number) || number.isBlank()) {
       throw new IllegalArgumentException("Document number cannot be null or blank");
     }
-    if (type != DocumentTypes.OTRO && type != DocumentTypes.DNI
-        && type != DocumentTypes.CARNET_EXTRANJERIA && type != DocumentTypes.RUC
-        && type != DocumentTypes.PASAPORTE && type != DocumentTypes.PTP) {
-      throw new IllegalArgumentException("Invalid document type: [" + type + "]");
-    }
-    if (type == DocumentTypes.DNI && number.length() != Util.DNI_LENGTH) {
-      throw new IllegalArgumentException("DNI must have exactly 8 digits");
-    }
-    if (type == DocumentTypes.CARNET_EXTRANJERIA && number.length()
-        != Util.CARNET_EXTRANJERIA_LENGTH) {
-      throw new IllegalArgumentException("Carnet Extranjero must have exactly 12 digits");
-    }
-    if (type == DocumentTypes.RUC && number.length() != Util.RUC_LENGTH) {
-      throw new IllegalArgumentException("RUC must have exactly 11 digits");
-    }
-    if (type == DocumentTypes.PASAPORTE && number.length() != Util.PASAPORTE_LENGTH) {
-      throw new IllegalArgumentException("Pasaporte must have exactly 10 digits");
-    }
-    if (type == DocumentTypes.PTP && number.length() != Util.PTP_LENGTH) {
-      throw new IllegalArgumentException("PTP must have exactly 12 digits");
+    var lengthError = switch (type) {
+      case DNI -> number.length() != Util.DNI_LENGTH
+          ? "DNI must have exactly 8 digits" : null;
+      case CARNET_EXTRANJERIA -> number.length() != Util.CARNET_EXTRANJERIA_LENGTH
+          ? "Carnet Extranjero must have exactly 12 digits" : null;
+      case RUC -> number.length() != Util.RUC_LENGTH
+          ? "RUC must have exactly 11 digits" : null;
+      case PASAPORTE -> number.length() != Util.PASAPORTE_LENGTH
+          ? "Pasaporte must have exactly 10 digits" : null;
+      case PTP -> number.length() != Util.PTP_LENGTH
+          ? "PTP must have exactly 12 digits" : null;
+      case OTRO -> null;
+    };
+    if (Objects.nonNull(lengthError)) {
+      throw new IllegalArgumentException(lengthError);
     }
   }
   // Default constructor for JPA.
@@ -51,7 +46,7 @@ public record Document(@NotNull @NotBlank DocumentTypes type,
   }
 
   public String getFullDocument() {
-    return String.format("%s: %s", type, number);
+    return type + ": " + number;
   }
 
 }
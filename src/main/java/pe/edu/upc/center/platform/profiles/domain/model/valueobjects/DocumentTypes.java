@@ -1,7 +1,5 @@
 package pe.edu.upc.center.platform.profiles.domain.model.valueobjects;
 
-import java.util.Arrays;
-
 public enum DocumentTypes {
   OTRO(0),
   DNI(1),
@@ -10,6 +8,14 @@ public enum DocumentTypes {
   PASAPORTE(7),
   PTP(15);
 
+  private static final DocumentTypes[] BY_VALUE = new DocumentTypes[16];
+
+  static {
+    for (var documentType : values()) {
+      BY_VALUE[documentType.value] = documentType;
+    }
+  }
+
   private final int value;
 
   DocumentTypes(int value) {
@@ -21,10 +27,9 @@ public enum DocumentTypes {
   }
 
   public static DocumentTypes fromValue(int value) {
-    return Arrays.stream(DocumentTypes.values())
-        .filter(dt -> dt.value == value)
-        .findFirst()
-        .orElseThrow(() ->
-            new IllegalArgumentException("Invalid value for DocumentType: " + value));
+    if (value < 0 || value >= BY_VALUE.length || BY_VALUE[value] == null) {
+      throw new IllegalArgumentException("Invalid value for DocumentType: " + value);
+    }
+    return BY_VALUE[value];
   }
 }
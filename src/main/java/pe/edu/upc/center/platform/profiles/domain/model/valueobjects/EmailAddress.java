@@ -14,7 +14,7 @@ public record EmailAddress(@Email @NotNull @NotBlank String address) {
         if (Objects.isNull(address) || address.isBlank()) {
             throw new IllegalArgumentException("Email address cannot be null or blank");
         }
-        if (!address.matches("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}$")) {
+        if (!isValidAddress(address)) {
             throw new IllegalArgumentException("Invalid email address");
         }
     }
@@ -22,4 +22,48 @@ public record EmailAddress(@Email @NotNull @NotBlank String address) {
     public EmailAddress() {
         this(null);
     }
+
+    /**
+     * Checks the address without regular expressions, because an address is built for every
+     * profile loaded from the database.
+     *
+     * @param address the address to check
+     * @return true if the address matches
+     *     {@code ^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,6}$}
+     */
+    private static boolean isValidAddress(String address) {
+        int at = address.indexOf('@');
+        int lastDot = address.lastIndexOf('.');
+        int topLevelDomainLength = address.length() - lastDot - 1;
+        if (at < 1 || lastDot < at + 2 || topLevelDomainLength < 2 || topLevelDomainLength > 6) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char character = address.charAt(i);
+            if (!isLetterOrDigit(character) && character != '.' && character != '_'
+                && character != '%' && character != '+' && character != '-') {
+                return false;
+            }
+        }
+        for (int i = at + 1; i < lastDot; i++) {
+            char character = address.charAt(i);
+            if (!isLetterOrDigit(character) && character != '.' && character != '-') {
+                return false;
+            }
+        }
+        for (int i = lastDot + 1; i < address.length(); i++) {
+            if (!isLetter(address.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char character) {
+        return (character >= 'A' && character <= 'Z') || (character >= 'a' && character <= 'z');
+    }
+
+    private static boolean isLetterOrDigit(char character) {
+        return isLetter(character) || (character >= '0' && character <= '9');
+    }
 }
@@ -4,12 +4,18 @@ import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.text.Normalizer;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 @Embeddable
 public record PersonName(@NotNull @NotBlank String firstName,
                          @NotNull @NotBlank String lastName) {
 
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     public PersonName {
         if (Objects.isNull(firstName) || firstName.isBlank()) {
             throw new IllegalArgumentException("First name cannot be null or blank");
@@ -24,6 +30,27 @@ public record PersonName(@NotNull @NotBlank String firstName,
     }
 
     public String getFullName() {
-        return String.format("%s %s", firstName, lastName);
+        return firstName + " " + lastName;
+    }
+
+    /**
+     * Returns the full name normalized for case and accent insensitive search.
+     *
+     * @return the normalized full name
+     */
+    public String getSearchName() {
+        return normalizeForSearch(getFullName());
+    }
+
+    /**
+     * Normalizes a text for name search: accents removed, lower case and single spaces.
+     *
+     * @param text the text to normalize
+     * @return the normalized text
+     */
+    public static String normalizeForSearch(String text) {
+        var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        var unaccented = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(unaccented.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
     }
 }
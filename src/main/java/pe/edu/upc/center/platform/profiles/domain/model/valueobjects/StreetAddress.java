@@ -54,6 +54,6 @@ public record StreetAddress(@NotNull @NotBlank String street, @NotNull @NotBlank
     }
   }
   public String getFullAddress() {
-    return String.format("%s %s, %s, %s, %s", street, number, city, postalCode, country);
+    return street + " " + number + ", " + city + ", " + postalCode + ", " + country;
   }
 }
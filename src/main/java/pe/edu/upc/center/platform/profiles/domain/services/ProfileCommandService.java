@@ -2,9 +2,12 @@ package pe.edu.upc.center.platform.profiles.domain.services;
 
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfileCommand;
+import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfilesBatchCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.DeleteProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.UpdateProfileCommand;
+import pe.edu.upc.center.platform.shared.domain.model.valueobjects.BatchItemResult;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,9 +19,20 @@ public interface ProfileCommandService {
    * Handles the creation of a new profile based on the provided command.
    *
    * @param command the command containing the profile information
-   * @return the ID of the newly created profile
+   * @return an optional containing the persisted profile, with its ID assigned
    */
-  Long handle(CreateProfileCommand command);
+  Optional<Profile> handle(CreateProfileCommand command);
+
+  /**
+   * Handles the creation of several profiles based on the provided batch command.
+   *
+   * <p>Items whose email or document is already registered, or repeated inside the batch,
+   *     are rejected individually while the rest are created.</p>
+   *
+   * @param command the command containing the profiles to create
+   * @return the result of each item, in the same order as the batch
+   */
+  List<BatchItemResult<Long>> handle(CreateProfilesBatchCommand command);
 
   /**
    * Handles the update of a profile based on the provided command.
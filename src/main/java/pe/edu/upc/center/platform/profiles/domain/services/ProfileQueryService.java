@@ -1,10 +1,15 @@
 package pe.edu.upc.center.platform.profiles.domain.services;
 
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
 import pe.edu.upc.center.platform.profiles.domain.model.queries.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for handling profile-related queries.
@@ -19,6 +24,26 @@ public interface ProfileQueryService {
    */
   List<Profile> handle(GetAllProfilesQuery query);
 
+  /**
+   * Handle the query to get a page of profiles after a given cursor.
+   *
+   * @param query the query containing the cursor and the page limit
+   * @return a slice of the summaries of at most {@code limit} profiles ordered by ID, telling
+   *     whether more profiles follow
+   */
+  Slice<ProfileSummary> handle(GetProfilesPageQuery query);
+
+  /**
+   * Handle the query to export all profiles, passing each one to a consumer.
+   *
+   * <p>Profiles are read through a database cursor, so memory use does not grow with
+   *     the number of profiles.</p>
+   *
+   * @param query the query to export all profiles
+   * @param consumer the consumer that receives each profile
+   */
+  void handle(ExportAllProfilesQuery query, Consumer<ProfileSummary> consumer);
+
   /**
    * Handle the query to get a profile by its ID.
    *
@@ -27,6 +52,27 @@ public interface ProfileQueryService {
    */
   Optional<Profile> handle(GetProfileByIdQuery query);
 
+  /**
+   * Handle the query to get the summary of a profile by its ID.
+   *
+   * <p>Answered from the profiles cache when the profile is cached.</p>
+   *
+   * @param query the query containing the profile ID
+   * @return an optional summary of the profile matching the ID
+   */
+  Optional<ProfileSummary> handle(GetProfileSummaryByIdQuery query);
+
+  /**
+   * Handle the query to get the last modification time of a profile.
+   *
+   * <p>Answered from the profiles cache when the profile is cached, and otherwise with a query
+   *     that only reads the modification time.</p>
+   *
+   * @param query the query containing the profile ID
+   * @return an optional last modification time, empty if the profile does not exist
+   */
+  Optional<LocalDateTime> handle(GetProfileVersionByIdQuery query);
+
   /** Handle the query to get a profile by its name.
    *
    * @param query the query containing the profile name
@@ -42,6 +88,14 @@ public interface ProfileQueryService {
    */
   List<Profile> handle(GetProfileByAgeQuery query);
 
+  /**
+   * Handle the query to get profiles whose age is within a range.
+   *
+   * @param query the query containing the minimum and maximum age
+   * @return a list of profiles whose current age is within the range
+   */
+  List<Profile> handle(GetProfilesByAgeRangeQuery query);
+
   /**
    * Handle the query to get a profile by its email.
    * @param query the query containing the profile email
@@ -56,4 +110,28 @@ public interface ProfileQueryService {
    * @return true if the profile exists, false otherwise
    */
   boolean handle(ExistsProfileByIdQuery query);
+
+  /**
+   * Handle the query to find which of the given profile IDs exist.
+   *
+   * @param query the query containing the profile IDs
+   * @return the IDs of the existing profiles
+   */
+  Set<Long> handle(GetExistingProfileIdsQuery query);
+
+  /**
+   * Handle the query to get the profiles with any of the given IDs.
+   *
+   * @param query the query containing the profile IDs
+   * @return the existing profiles, in no particular order
+   */
+  List<Profile> handle(GetProfilesByIdsQuery query);
+
+  /**
+   * Handle the query to search profiles by name.
+   *
+   * @param query the query containing the searched text and the result limit
+   * @return at most {@code limit} profiles whose name matches the text, best matches first
+   */
+  List<Profile> handle(SearchProfilesByNameQuery query);
 }
@@ -0,0 +1,160 @@
+package pe.edu.upc.center.platform.profiles.infrastructure.persistence.jpa.migrations;
+
+import java.util.ArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.migrations.SchemaMigration;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * Applies the profiles index changes that the schema update does not perform.
+ *
+ * <p>The schema update creates the indexes declared on the entity but never drops those that
+ *     are no longer declared, so obsolete indexes are dropped here at startup.</p>
+ *
+ * <p>It also fills the search name of profiles created before the column existed and creates
+ *     the name search indexes, which need an extension, an operator class or a collation the
+ *     entity mapping cannot declare: a trigram index for substring search ranked by similarity
+ *     and a byte-ordered index for prefix search. Both are created concurrently so existing
+ *     tables stay writable while they are built, and built again when an earlier concurrent
+ *     build left them invalid.</p>
+ *
+ * <p>The {@code SchemaMigrationRunner} runs it under an advisory lock, so a node never drops
+ *     an index another node is still building, and the statements use {@code IF EXISTS} and
+ *     {@code IF NOT EXISTS} so a repeated run does not fail.</p>
+ */
+@Component
+public class ProfileIndexMigration implements SchemaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProfileIndexMigration.class);
+
+  /**
+   * Index on the stored age, replaced by the birthdate index since ages are derived from the
+   * birthdate.
+   */
+  private static final String OBSOLETE_AGE_INDEX = "idx_profiles_age";
+
+  private static final String SEARCH_NAME_TRIGRAM_INDEX = "idx_profiles_search_name_trgm";
+  private static final String SEARCH_NAME_PREFIX_INDEX = "idx_profiles_search_name_prefix";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor for ProfileIndexMigration.
+   *
+   * @param jdbcTemplate the JDBC template used to inspect and alter the indexes
+   */
+  public ProfileIndexMigration(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public int getOrder() {
+    return PROFILE_INDEXES_ORDER;
+  }
+
+  @Override
+  public void migrate() {
+    dropObsoleteAgeIndex();
+    backfillSearchNames();
+    createSearchNameIndexes();
+  }
+
+  private void dropObsoleteAgeIndex() {
+    if (!indexExists(OBSOLETE_AGE_INDEX)) {
+      return;
+    }
+    this.jdbcTemplate.execute("DROP INDEX IF EXISTS " + OBSOLETE_AGE_INDEX);
+    LOGGER.info("Obsolete index {} dropped", OBSOLETE_AGE_INDEX);
+  }
+
+  private void backfillSearchNames() {
+    var lastId = Long.MIN_VALUE;
+    var backfilled = 0;
+    while (true) {
+      var rows = this.jdbcTemplate.queryForList("""
+          SELECT id, first_name, last_name FROM profiles
+          WHERE search_name IS NULL AND id > ?
+          ORDER BY id LIMIT ?""", lastId, Util.BATCH_CHUNK_SIZE);
+      if (rows.isEmpty()) {
+        break;
+      }
+      var updates = new ArrayList<Object[]>(rows.size());
+      for (var row : rows) {
+        var name = new PersonName((String) row.get("first_name"), (String) row.get("last_name"));
+        updates.add(new Object[] { name.getSearchName(), row.get("id") });
+      }
+      this.jdbcTemplate.batchUpdate("UPDATE profiles SET search_name = ? WHERE id = ?", updates);
+      lastId = ((Number) rows.getLast().get("id")).longValue();
+      backfilled += rows.size();
+    }
+    if (backfilled > 0) {
+      LOGGER.info("Search name filled for {} existing profiles", backfilled);
+    }
+  }
+
+  private void createSearchNameIndexes() {
+    createIndexConcurrently(SEARCH_NAME_PREFIX_INDEX,
+        "ON profiles (search_name COLLATE \"C\", id)");
+    if (Boolean.TRUE.equals(indexValidity(SEARCH_NAME_TRIGRAM_INDEX))) {
+      return;
+    }
+    try {
+      this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+    } catch (DataAccessException e) {
+      LOGGER.warn("Extension pg_trgm could not be created, substring name search will fail "
+          + "until it is installed: {}", e.getMessage());
+      return;
+    }
+    createIndexConcurrently(SEARCH_NAME_TRIGRAM_INDEX,
+        "ON profiles USING gist (search_name gist_trgm_ops)");
+  }
+
+  /**
+   * Creates an index concurrently unless a valid index with that name exists.
+   *
+   * <p>A concurrent build that fails or is interrupted leaves an invalid index behind, which
+   *     queries never use but {@code IF NOT EXISTS} still sees. Such an index is dropped and
+   *     built again.</p>
+   *
+   * @param indexName  the name of the index
+   * @param definition the index definition following its name
+   */
+  private void createIndexConcurrently(String indexName, String definition) {
+    var valid = indexValidity(indexName);
+    if (Boolean.TRUE.equals(valid)) {
+      return;
+    }
+    if (valid != null) {
+      this.jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+      LOGGER.warn("Invalid index {} left by an incomplete build dropped", indexName);
+    }
+    this.jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName + " "
+        + definition);
+    LOGGER.info("Index {} created", indexName);
+  }
+
+  private boolean indexExists(String indexName) {
+    return indexValidity(indexName) != null;
+  }
+
+  /**
+   * Looks up whether an index of the current schema is valid.
+   *
+   * @param indexName the name of the index
+   * @return whether the index is valid, or {@code null} when it does not exist
+   */
+  private Boolean indexValidity(String indexName) {
+    var validity = this.jdbcTemplate.queryForList("""
+        SELECT i.indisvalid FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = current_schema() AND c.relname = ?""",
+        Boolean.class, indexName);
+    return validity.isEmpty() ? null : validity.getFirst();
+  }
+}
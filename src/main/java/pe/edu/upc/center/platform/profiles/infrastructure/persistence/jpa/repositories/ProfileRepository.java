@@ -1,14 +1,24 @@
 package pe.edu.upc.center.platform.profiles.infrastructure.persistence.jpa.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
 import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.Document;
 import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.EmailAddress;
 import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /** Repository interface for managing Profile entities.
  *
@@ -18,6 +28,14 @@ import java.util.Optional;
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
+  /**
+   * Select clause of the profile summary projection.
+   */
+  String SELECT_SUMMARY = """
+      select new pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary(
+          p.id, p.name, p.document, p.birthDate, p.email, p.address, p.updatedAt)
+      from Profile p""";
+
   /** Custom query method to check existence of a profile by full name.
    *
    * @param name the full name to check for existence
@@ -65,10 +83,132 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
    */
   Optional<Profile> findByEmail(EmailAddress email);
 
-  /** Custom query method to find profiles by age.
+  /** Custom query method to find profiles born within a range of dates.
+   *
+   * @param from the first birthdate of the range, included
+   * @param to the last birthdate of the range, included
+   * @return a list of profiles whose birthdate is within the range
+   */
+  List<Profile> findByBirthDateBetween(LocalDate from, LocalDate to);
+
+  /** Custom query method to find the next page of profile summaries seeking on the primary key.
+   *
+   * <p>Only the listed columns are selected, straight into the summaries, so no entity is
+   *     hydrated or tracked by the persistence context.</p>
+   *
+   * @param id the ID after which the page starts
+   * @param limit the maximum number of profiles to retrieve
+   * @return a list of summaries of the profiles with an ID greater than the given one,
+   *     ordered by ID
+   */
+  @Query(SELECT_SUMMARY + " where p.id > :id order by p.id")
+  List<ProfileSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+  /** Custom query method to find the summary of a profile by its ID.
+   *
+   * @param id the ID of the profile
+   * @return an Optional containing the summary of the profile if found, or empty if not found
+   */
+  @Query(SELECT_SUMMARY + " where p.id = :id")
+  Optional<ProfileSummary> findSummaryById(@Param("id") Long id);
+
+  /** Custom query method to stream the summaries of all profiles ordered by ID using a
+   * server-side cursor.
+   *
+   * <p>The stream must be consumed and closed inside a transaction, so the JDBC driver
+   *     can fetch the rows in chunks instead of loading the whole result set.</p>
+   *
+   * @return a stream of the summaries of all profiles
+   */
+  @QueryHints({
+      @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+      @QueryHint(name = "org.hibernate.readOnly", value = "true")
+  })
+  @Query(SELECT_SUMMARY + " order by p.id")
+  Stream<ProfileSummary> streamAllSummariesBy();
+
+  /** Custom query method to find which of the given email addresses are already registered.
+   *
+   * @param addresses the email addresses to check
+   * @return the email addresses that belong to an existing profile
+   */
+  @Query("select p.email.address from Profile p where p.email.address in :addresses")
+  List<String> findExistingEmailAddresses(@Param("addresses") Collection<String> addresses);
+
+  /** Custom query method to find the registered documents with any of the given numbers.
+   *
+   * @param numbers the document numbers to check
+   * @return the documents of existing profiles whose number is in the given collection
+   */
+  @Query("select p.document from Profile p where p.document.number in :numbers")
+  List<Document> findDocumentsByNumberIn(@Param("numbers") Collection<String> numbers);
+
+  /** Custom query method to find the last modification time of a profile.
+   *
+   * @param id the ID of the profile
+   * @return an Optional containing the last modification time, or empty if not found
+   */
+  @Query("select p.updatedAt from Profile p where p.id = :id")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+  /** Custom query method to find which of the given profile IDs exist.
+   *
+   * @param ids the profile IDs to check
+   * @return the IDs that belong to an existing profile
+   */
+  @Query("select p.id from Profile p where p.id in :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  /** Custom query method to find the profiles whose normalized name contains a pattern, closest
+   * first.
+   *
+   * <p>Served by the trigram index on the search name, which filters on the pattern and returns
+   *     the rows ordered by trigram distance to the searched text.</p>
+   *
+   * @param pattern the LIKE pattern to match, already normalized and escaped
+   * @param text the normalized searched text, used to rank the matches
+   * @param limit the maximum number of profiles to retrieve
+   * @return the matching profiles ordered by relevance
+   */
+  @Query(value = """
+      select * from profiles
+      where search_name like :pattern
+      order by search_name <-> :text, id
+      limit :limit""", nativeQuery = true)
+  List<Profile> searchBySearchNameContaining(@Param("pattern") String pattern,
+      @Param("text") String text, @Param("limit") int limit);
+
+  /** Custom query method to find the profiles whose normalized name starts with a prefix.
+   *
+   * <p>Used for texts too short to have trigrams. The prefix is turned into a range of the
+   *     byte-ordered search name index, which also returns the rows in order.</p>
+   *
+   * @param from the normalized prefix, first value of the range
+   * @param to the first value after the range
+   * @param limit the maximum number of profiles to retrieve
+   * @return the matching profiles ordered by search name
+   */
+  @Query(value = """
+      select * from profiles
+      where search_name collate "C" >= :from and search_name collate "C" < :to
+      order by search_name collate "C", id
+      limit :limit""", nativeQuery = true)
+  List<Profile> searchBySearchNameStartingWith(@Param("from") String from,
+      @Param("to") String to, @Param("limit") int limit);
+
+  /** Custom query method to find the profiles whose normalized name is not before a value.
+   *
+   * <p>Used for prefixes made only of the maximum code point, which have no first value after
+   *     their range: every name from the prefix on starts with it.</p>
    *
-   * @param age the age to filter profiles
-   * @return a list of profiles matching the specified age
+   * @param from the normalized prefix, first value of the range
+   * @param limit the maximum number of profiles to retrieve
+   * @return the matching profiles ordered by search name
    */
-  List<Profile> findByAge(int age);
+  @Query(value = """
+      select * from profiles
+      where search_name collate "C" >= :from
+      order by search_name collate "C", id
+      limit :limit""", nativeQuery = true)
+  List<Profile> searchBySearchNameFrom(@Param("from") String from, @Param("limit") int limit);
 }
@@ -1,21 +1,28 @@
 package pe.edu.upc.center.platform.profiles.interfaces.acl;
 
 import org.springframework.stereotype.Service;
+import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.DeleteProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.UpdateProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.queries.ExistsProfileByIdQuery;
-import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileByIdQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetExistingProfileIdsQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileSummaryByIdQuery;
 import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileByNameQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfilesByIdsQuery;
 import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
 import pe.edu.upc.center.platform.profiles.domain.services.ProfileCommandService;
 import pe.edu.upc.center.platform.profiles.domain.services.ProfileQueryService;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.assemblers.ProfileAssembler;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
+import pe.edu.upc.center.platform.shared.utils.Util;
 
 import java.time.LocalDate;
-import java.util.Objects;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Facade for managing profiles, providing methods to create, update, delete, and fetch profiles.
@@ -55,15 +62,42 @@ public class ProfilesContextFacade {
    * @return an Optional containing the ProfileResource if found, otherwise an empty Optional
    */
   public Optional<ProfileResponse> fetchProfileById(Long profileId) {
-    var getProfileByIdQuery = new GetProfileByIdQuery(profileId);
-    var optionalProfile = profileQueryService.handle(getProfileByIdQuery);
+    var getProfileSummaryByIdQuery = new GetProfileSummaryByIdQuery(profileId);
+    var optionalProfile = profileQueryService.handle(getProfileSummaryByIdQuery);
     if (optionalProfile.isEmpty()) {
       return Optional.empty();
     }
-    var profileResponse = ProfileAssembler.toResponseFromEntity(optionalProfile.get());
+    var profileResponse = ProfileAssembler.toResponseFromSummary(optionalProfile.get());
     return Optional.of(profileResponse);
   }
 
+  /**
+   * Checks which of the given profile IDs exist, with one query per chunk of IDs.
+   *
+   * @param profileIds the IDs of the profiles to check
+   * @return the IDs of the existing profiles
+   */
+  public Set<Long> existsProfilesByIds(Collection<Long> profileIds) {
+    var getExistingProfileIdsQuery = new GetExistingProfileIdsQuery(Util.distinctIds(profileIds));
+    return this.profileQueryService.handle(getExistingProfileIdsQuery);
+  }
+
+  /**
+   * Fetches the profiles with the given IDs, with one query per chunk of IDs.
+   *
+   * @param profileIds the IDs of the profiles to fetch
+   * @return the ProfileResources of the existing profiles by profile ID, missing IDs are absent
+   */
+  public Map<Long, ProfileResponse> fetchProfilesByIds(Collection<Long> profileIds) {
+    var getProfilesByIdsQuery = new GetProfilesByIdsQuery(Util.distinctIds(profileIds));
+    var profiles = this.profileQueryService.handle(getProfilesByIdsQuery);
+    var profileResponses = new HashMap<Long, ProfileResponse>(profiles.size() * 2);
+    for (var profile : profiles) {
+      profileResponses.put(profile.getId(), ProfileAssembler.toResponseFromEntity(profile));
+    }
+    return profileResponses;
+  }
+
   /**
    * Fetches the profile ID by full name.
    *
@@ -122,11 +156,8 @@ public class ProfilesContextFacade {
         documentType, documentNumber, birthDate, email, street, streetNumber,
         city, postalCode, country);
 
-    var profileId = profileCommandService.handle(createProfileCommand);
-    if (Objects.isNull(profileId)) {
-      return 0L;
-    }
-    return profileId;
+    var optionalProfile = profileCommandService.handle(createProfileCommand);
+    return optionalProfile.map(Profile::getId).orElse(0L);
   }
 
   /**
@@ -3,11 +3,14 @@ package pe.edu.upc.center.platform.profiles.interfaces.rest.assemblers;
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfileCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.UpdateProfileCommand;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
 import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.*;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.CreateProfileRequest;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileMinimalResponse;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.ProfileResponse;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.UpdateProfileRequest;
+import pe.edu.upc.center.platform.shared.domain.model.valueobjects.BatchItemResult;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.BatchItemResponse;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -53,12 +56,35 @@ public class ProfileAssembler {
         entity.getAddress().city(), entity.getAddress().postalCode(),
         entity.getAddress().country());
   }
+  public static ProfileResponse toResponseFromSummary(ProfileSummary summary) {
+
+    return new ProfileResponse(summary.id(), summary.name().firstName(),
+        summary.name().lastName(), summary.document().type().getValue(),
+        summary.document().number(), summary.birthDate(),
+        summary.getAge(), summary.email().address(),
+        summary.address().street(), summary.address().number(),
+        summary.address().city(), summary.address().postalCode(),
+        summary.address().country());
+  }
+
   public static ProfileMinimalResponse toResponseMinimalFromEntity(Profile entity) {
     return new ProfileMinimalResponse(entity.getId(), entity.getFullName(),
         entity.getFullDocument(), entity.getBirthDate().toString(),
         entity.getEmail().address(), entity.getFullAddress());
   }
 
+  public static ProfileMinimalResponse toResponseMinimalFromSummary(ProfileSummary summary) {
+    return new ProfileMinimalResponse(summary.id(), summary.getFullName(),
+        summary.getFullDocument(), summary.birthDate().toString(),
+        summary.email().address(), summary.getFullAddress());
+  }
+
+  public static BatchItemResponse<Long> toResponseFromBatchResult(BatchItemResult<Long> result) {
+    return result.isSuccess()
+        ? new BatchItemResponse<>(result.index(), "CREATED", result.id(), null)
+        : new BatchItemResponse<>(result.index(), "REJECTED", null, result.error());
+  }
+
   public static int calculateAge(LocalDate birthDate) {
     if (Objects.isNull(birthDate)) {
       return 0;
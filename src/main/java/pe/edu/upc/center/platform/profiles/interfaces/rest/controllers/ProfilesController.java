@@ -1,54 +1,81 @@
 package pe.edu.upc.center.platform.profiles.interfaces.rest.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.commands.CreateProfilesBatchCommand;
 import pe.edu.upc.center.platform.profiles.domain.model.commands.DeleteProfileCommand;
-import pe.edu.upc.center.platform.profiles.domain.model.queries.GetAllProfilesQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.ExportAllProfilesQuery;
 import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileByAgeQuery;
-import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileByIdQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfilesByAgeRangeQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileSummaryByIdQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileVersionByIdQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfilesPageQuery;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.SearchProfilesByNameQuery;
 import pe.edu.upc.center.platform.profiles.domain.services.ProfileCommandService;
 import pe.edu.upc.center.platform.profiles.domain.services.ProfileQueryService;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.assemblers.ProfileAssembler;
 import pe.edu.upc.center.platform.profiles.interfaces.rest.resources.*;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.BatchItemResponse;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.CursorPageResponse;
+import pe.edu.upc.center.platform.shared.infrastructure.serialization.ResponseFormatNegotiator;
+import pe.edu.upc.center.platform.shared.interfaces.rest.resources.ResourceVersion;
 import pe.edu.upc.center.platform.shared.interfaces.rest.resources.ValidationExceptionResponse;
+import pe.edu.upc.center.platform.shared.utils.Util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * REST controller for managing profiles.
+ *
+ * <p>Responses are JSON unless the client asks for CBOR with {@code Accept: application/cbor}.</p>
  */
 @CrossOrigin(origins = "*", methods = { RequestMethod.POST, RequestMethod.GET,
     RequestMethod.PUT, RequestMethod.DELETE })
 @RestController
-@RequestMapping(value = "/api/v1/profiles", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/v1/profiles", produces = {
+    MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE })
 @Tag(name = "Profiles", description = "Profile Management Endpoints")
 public class ProfilesController {
 
   private final ProfileQueryService profileQueryService;
   private final ProfileCommandService profileCommandService;
+  private final ObjectMapper objectMapper;
+  private final ResponseFormatNegotiator responseFormatNegotiator;
 
   /**
    * Constructor for ProfilesController.
    *
-   * @param profileQueryService   the service for handling profile queries
-   * @param profileCommandService the service for handling profile commands
+   * @param profileQueryService      the service for handling profile queries
+   * @param profileCommandService    the service for handling profile commands
+   * @param objectMapper             the mapper used to stream the profile array
+   * @param responseFormatNegotiator the negotiator of the format of versioned responses
    */
   public ProfilesController(ProfileQueryService profileQueryService,
-                            ProfileCommandService profileCommandService) {
+                            ProfileCommandService profileCommandService,
+                            ObjectMapper objectMapper,
+                            ResponseFormatNegotiator responseFormatNegotiator) {
     this.profileQueryService = profileQueryService;
     this.profileCommandService = profileCommandService;
+    this.objectMapper = objectMapper;
+    this.responseFormatNegotiator = responseFormatNegotiator;
   }
 
   /**
@@ -81,27 +108,73 @@ public class ProfilesController {
       @Valid @RequestBody CreateProfileRequest request) {
 
     var createProfileCommand = ProfileAssembler.toCommandFromRequest(request);
-    var profileId = this.profileCommandService.handle(createProfileCommand);
+    var optionalProfile = this.profileCommandService.handle(createProfileCommand);
 
-    if (Objects.isNull(profileId) || profileId.equals(0L)) {
+    if (optionalProfile.isEmpty()) {
       return ResponseEntity.badRequest().build();
     }
 
-    var getProfileByIdQuery = new GetProfileByIdQuery(profileId);
-    var optionalProfile = this.profileQueryService.handle(getProfileByIdQuery);
-
     var profileMinimalResponse = ProfileAssembler.toResponseMinimalFromEntity(optionalProfile.get());
     return new ResponseEntity<>(profileMinimalResponse, HttpStatus.CREATED);
   }
 
   /**
-   * Endpoint to retrieve all profiles or filter by age.
+   * Endpoint to create several profiles at once.
    *
-   * @param age optional age parameter to filter profiles
-   * @return a list of ResponseMinimalEntity
+   * <p>Every item is validated like the request of a single profile. An invalid item rejects
+   *     the whole request with the same 400 body, its fields prefixed with the item index.</p>
+   *
+   * @param requests the profiles data to be created
+   * @return a ResponseEntity containing the result of each item, in request order
+   */
+  @Operation(summary = "Create profiles in bulk",
+      description = "Creates several profiles, rejecting individually those whose email or "
+          + "document already exists or is repeated in the batch",
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Profiles data for creation", required = true,
+          content = @Content (
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = CreateProfileRequest.class)))),
+      responses = {
+          @ApiResponse(responseCode = "200", description = "Batch processed",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  array = @ArraySchema(schema = @Schema(implementation = BatchItemResponse.class)))),
+          @ApiResponse(responseCode = "400", description = "Bad request - Invalid input data",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = ValidationExceptionResponse.class)))
+      }
+  )
+  @PostMapping("/batch")
+  public ResponseEntity<List<BatchItemResponse<Long>>> createProfiles(
+      @RequestBody List<@Valid CreateProfileRequest> requests) {
+
+    var createProfileCommands = requests.stream()
+        .map(ProfileAssembler::toCommandFromRequest)
+        .collect(Collectors.toList());
+    var results = this.profileCommandService.handle(
+        new CreateProfilesBatchCommand(createProfileCommands));
+
+    var batchItemResponses = results.stream()
+        .map(ProfileAssembler::toResponseFromBatchResult)
+        .collect(Collectors.toList());
+    return ResponseEntity.ok(batchItemResponses);
+  }
+
+  /**
+   * Endpoint to retrieve all profiles as a JSON array.
+   *
+   * <p>Used when neither {@code age}, {@code after} nor {@code limit} is given, so the
+   *     response keeps the array shape of the endpoint before pagination. Profiles are read
+   *     through a database cursor and written to the response one by one, so memory use stays
+   *     constant regardless of the number of profiles.</p>
+   *
+   * @param response the HTTP response the profiles are written to
+   * @throws IOException if writing to the response fails
    */
   @Operation( summary = "Retrieve all profiles",
-    description = "Retrieves all profiles or filters by age if provided",
+    description = "Streams all profiles as a JSON array when no filter or page is requested",
     responses = {
       @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully",
           content = @Content(
@@ -109,31 +182,94 @@ public class ProfilesController {
               array = @ArraySchema(schema = @Schema(implementation = ProfileMinimalResponse.class)) ))
     }
   )
-  @GetMapping
-  public ResponseEntity<List<ProfileMinimalResponse>> getAllProfiles(
-      @RequestParam(required = false) Integer age) {
+  @GetMapping(params = { "!age", "!after", "!limit" }, produces = MediaType.APPLICATION_JSON_VALUE)
+  public void getAllProfiles(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    try (var writer = this.objectMapper.writerFor(ProfileMinimalResponse.class)
+        .writeValuesAsArray(response.getOutputStream())) {
+      this.profileQueryService.handle(new ExportAllProfilesQuery(), profile -> {
+        try {
+          writer.write(ProfileAssembler.toResponseMinimalFromSummary(profile));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
 
-    List<Profile> profiles;
-    if (Objects.isNull(age)) {
-      var getAllProfilesQuery = new GetAllProfilesQuery();
-      profiles = this.profileQueryService.handle(getAllProfilesQuery);
+  /**
+   * Endpoint to retrieve the profiles of an age.
+   *
+   * @param age the age of the profiles to retrieve
+   * @return a list of ResponseMinimalEntity
+   */
+  @Operation( summary = "Retrieve the profiles of an age",
+    description = "Retrieves the profiles whose age is the given one",
+    responses = {
+      @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully",
+          content = @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = ProfileMinimalResponse.class)) ))
     }
-    else {
-      var query = new GetProfileByAgeQuery(age);
-      profiles = this.profileQueryService.handle(query);
+  )
+  @GetMapping(params = "age")
+  public ResponseEntity<List<ProfileMinimalResponse>> getProfilesByAge(
+      @RequestParam Integer age) {
+    var query = new GetProfileByAgeQuery(age);
+    var profileMinimalResponses = this.profileQueryService.handle(query).stream()
+        .map(ProfileAssembler::toResponseMinimalFromEntity)
+        .collect(Collectors.toList());
+    return ResponseEntity.ok(profileMinimalResponses);
+  }
+
+  /**
+   * Endpoint to retrieve a page of profiles.
+   *
+   * <p>Requests without parameters that do not accept JSON get the first page.</p>
+   *
+   * @param after optional cursor returned as nextCursor by the previous page
+   * @param limit optional maximum number of profiles per page
+   * @return a page of ResponseMinimalEntity
+   */
+  @Operation( summary = "Retrieve a page of profiles",
+    description = "Retrieves a page of profiles using cursor pagination",
+    responses = {
+      @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully",
+          content = @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = CursorPageResponse.class) ))
     }
+  )
+  @GetMapping(params = "!age")
+  public ResponseEntity<CursorPageResponse<ProfileMinimalResponse>> getProfilesPage(
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Integer limit) {
+
+    var pageLimit = Objects.requireNonNullElse(limit, Util.DEFAULT_PAGE_LIMIT);
+    var getProfilesPageQuery = new GetProfilesPageQuery(Objects.requireNonNullElse(after, 0L),
+        pageLimit);
+    var profiles = this.profileQueryService.handle(getProfilesPageQuery);
 
     var profileMinimalResponses = profiles.stream()
-        .map(ProfileAssembler::toResponseMinimalFromEntity)
+        .map(ProfileAssembler::toResponseMinimalFromSummary)
         .collect(Collectors.toList());
-    return ResponseEntity.ok(profileMinimalResponses);
+    var nextCursor = profiles.hasNext() ? profiles.getContent().getLast().id() : null;
+    return ResponseEntity.ok(new CursorPageResponse<>(profileMinimalResponses, pageLimit,
+        nextCursor));
   }
 
   /**
    * Endpoint to retrieve a profile by its ID.
    *
+   * <p>The response carries an ETag and a Last-Modified header. Conditional requests are
+   *     answered with 304 from the profile modification time alone, without loading the
+   *     profile. The age is part of the representation, so the version also changes daily. The
+   *     JSON and CBOR representations have their own ETags and the response varies by Accept.</p>
+   *
    * @param profileId the ID of the profile to be retrieved
-   * @return a ResponseEntity containing the profile resource or a bad request status if not found
+   * @param webRequest the current request, checked for If-None-Match and If-Modified-Since
+   * @return a ResponseEntity containing the profile resource or a bad request status if not
+   *     found, or null once a 304 status has been set
    */
   @Operation(summary = "Retrieve a profile by its ID",
     description = "Retrieves a profile using its unique ID",
@@ -141,18 +277,30 @@ public class ProfilesController {
           @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully",
               content = @Content(
                   mediaType = MediaType.APPLICATION_JSON_VALUE,
-                  schema = @Schema(implementation = ProfileResponse.class)))
+                  schema = @Schema(implementation = ProfileResponse.class))),
+          @ApiResponse(responseCode = "304", description = "Profile not modified")
       }
   )
 
   @GetMapping("/{profileId}")
-  public ResponseEntity<ProfileResponse> getProfileById(@PathVariable Long profileId) {
-    var getProfileByIdQuery = new GetProfileByIdQuery(profileId);
-    var optionalProfile = this.profileQueryService.handle(getProfileByIdQuery);
+  public ResponseEntity<ProfileResponse> getProfileById(@PathVariable Long profileId,
+                                                        NativeWebRequest webRequest) {
+    var updatedAt = this.profileQueryService.handle(new GetProfileVersionByIdQuery(profileId));
+    if (updatedAt.isEmpty()) {
+      return ResponseEntity.badRequest().build();
+    }
+    var format = this.responseFormatNegotiator.negotiate(webRequest);
+    var version = ResourceVersion.of(updatedAt.get(), LocalDate.now()).forFormat(format);
+    if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+      return null;
+    }
+
+    var getProfileSummaryByIdQuery = new GetProfileSummaryByIdQuery(profileId);
+    var optionalProfile = this.profileQueryService.handle(getProfileSummaryByIdQuery);
     if (optionalProfile.isEmpty()) {
       return ResponseEntity.badRequest().build();
     }
-    var profileResponse = ProfileAssembler.toResponseFromEntity(optionalProfile.get());
+    var profileResponse = ProfileAssembler.toResponseFromSummary(optionalProfile.get());
     return ResponseEntity.ok(profileResponse);
   }
 
@@ -219,25 +367,84 @@ public class ProfilesController {
   }
 
   /**
-   * Endpoint to search profiles by age.
+   * Endpoint to search profiles by age or by age range.
    *
    * @param age the age to filter profiles (optional)
-   * @return a list of profiles matching the specified age
+   * @param minAge the minimum age of the range (optional, defaults to 0)
+   * @param maxAge the maximum age of the range (optional, defaults to 100)
+   * @return a list of profiles matching the specified age or age range
    */
+  @Operation(summary = "Search profiles by age",
+      description = "Retrieves the profiles with the given age, or whose age is between minAge "
+          + "and maxAge, computed from their birthdate",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  array = @ArraySchema(schema = @Schema(implementation = ProfileResponse.class)))),
+          @ApiResponse(responseCode = "400", description = "Bad request - Missing or invalid ages",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = RuntimeException.class)))
+      }
+  )
   @GetMapping("/search")
   public ResponseEntity<List<ProfileResponse>> getProfileByAge(
-      @RequestParam(required = false) Integer age) {
+      @RequestParam(required = false) Integer age,
+      @RequestParam(required = false) Integer minAge,
+      @RequestParam(required = false) Integer maxAge) {
+    List<Profile> profiles;
     if (Objects.nonNull(age)) {
-      var query = new GetProfileByAgeQuery(age);
-      var profiles = this.profileQueryService.handle(query);
-
-      var profileResources = profiles.stream()
-          .map(ProfileAssembler::toResponseFromEntity)
-          .collect(Collectors.toList());
-      return ResponseEntity.ok(profileResources);
-    }
-    else {
+      profiles = this.profileQueryService.handle(new GetProfileByAgeQuery(age));
+    } else if (Objects.nonNull(minAge) || Objects.nonNull(maxAge)) {
+      var rangeMinAge = Objects.requireNonNullElse(minAge, 0);
+      var rangeMaxAge = Objects.requireNonNullElse(maxAge, Util.MAX_AGE);
+      profiles = this.profileQueryService.handle(
+          new GetProfilesByAgeRangeQuery(rangeMinAge, rangeMaxAge));
+    } else {
       return ResponseEntity.badRequest().build();
     }
+
+    var profileResources = profiles.stream()
+        .map(ProfileAssembler::toResponseFromEntity)
+        .collect(Collectors.toList());
+    return ResponseEntity.ok(profileResources);
+  }
+
+  /**
+   * Endpoint to search profiles by name, for autocomplete.
+   *
+   * @param q the text to search for in the first and last name
+   * @param limit the maximum number of profiles to retrieve (optional)
+   * @return a list of the profiles whose name matches the text, best matches first
+   */
+  @Operation(summary = "Search profiles by name",
+      description = "Retrieves the profiles whose full name contains the given text, ignoring "
+          + "case and accents, ordered by relevance. Texts shorter than three characters match "
+          + "the beginning of the full name",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  array = @ArraySchema(
+                      schema = @Schema(implementation = ProfileMinimalResponse.class)))),
+          @ApiResponse(responseCode = "400", description = "Bad request - Missing text or "
+              + "invalid limit",
+              content = @Content(
+                  mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = RuntimeException.class)))
+      }
+  )
+  @GetMapping("/search/name")
+  public ResponseEntity<List<ProfileMinimalResponse>> searchProfilesByName(
+      @RequestParam String q,
+      @RequestParam(required = false) Integer limit) {
+    var searchProfilesByNameQuery = new SearchProfilesByNameQuery(q,
+        Objects.requireNonNullElse(limit, Util.DEFAULT_SEARCH_LIMIT));
+    var profileMinimalResponses = this.profileQueryService.handle(searchProfilesByNameQuery)
+        .stream()
+        .map(ProfileAssembler::toResponseMinimalFromEntity)
+        .collect(Collectors.toList());
+    return ResponseEntity.ok(profileMinimalResponses);
   }
 }
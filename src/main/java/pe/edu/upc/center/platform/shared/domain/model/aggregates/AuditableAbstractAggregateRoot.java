@@ -3,14 +3,18 @@ package pe.edu.upc.center.platform.shared.domain.model.aggregates;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.Getter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.configuration.generator.PooledSequenceIdGenerator;
 
 /**
  * AuditableAbstractAggregateRoot class.
  * This class is used to represent an abstract aggregate root that is auditable.
+ * Identifiers are generated from a pooled sequence per table, see
+ * {@link PooledSequenceIdGenerator}.
  */
 @EntityListeners(AuditingEntityListener.class)
 @MappedSuperclass
@@ -19,7 +23,8 @@ public abstract class AuditableAbstractAggregateRoot<T extends AbstractAggregate
     extends AbstractAggregateRoot<T> {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "pooled_sequence")
+  @GenericGenerator(name = "pooled_sequence", type = PooledSequenceIdGenerator.class)
   private Long id;
 
   @CreatedDate
@@ -0,0 +1,25 @@
+package pe.edu.upc.center.platform.shared.domain.model.events;
+
+/**
+ * Event registered by an aggregate and published to other bounded contexts and systems.
+ *
+ * <p>Every domain event is recorded in the outbox in the transaction that changed the
+ *     aggregate, keyed by the aggregate type and identifier, so consumers can tell which
+ *     aggregate to refresh without listing the whole collection.</p>
+ */
+public interface DomainEvent {
+
+  /**
+   * Returns the type of the aggregate that registered the event.
+   *
+   * @return the aggregate type, for example {@code Profile}
+   */
+  String aggregateType();
+
+  /**
+   * Returns the public identifier of the aggregate that registered the event.
+   *
+   * @return the aggregate identifier
+   */
+  String aggregateId();
+}
@@ -0,0 +1,38 @@
+package pe.edu.upc.center.platform.shared.domain.model.valueobjects;
+
+/**
+ * Value object representing the outcome of one item of a batch command.
+ *
+ * @param index the position of the item in the batch
+ * @param id    the identifier of the created element, or null if the item was rejected
+ * @param error the reason the item was rejected, or null if it was created
+ * @param <T> the type of the identifier
+ */
+public record BatchItemResult<T>(int index, T id, String error) {
+
+  /**
+   * Creates a result for an item that was created successfully.
+   *
+   * @param index the position of the item in the batch
+   * @param id    the identifier of the created element
+   * @return the successful result
+   */
+  public static <T> BatchItemResult<T> success(int index, T id) {
+    return new BatchItemResult<>(index, id, null);
+  }
+
+  /**
+   * Creates a result for an item that was rejected.
+   *
+   * @param index the position of the item in the batch
+   * @param error the reason the item was rejected
+   * @return the failed result
+   */
+  public static <T> BatchItemResult<T> failure(int index, String error) {
+    return new BatchItemResult<>(index, null, error);
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
@@ -0,0 +1,49 @@
+package pe.edu.upc.center.platform.shared.infrastructure.caching.configuration;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-process caches.
+ *
+ * <p>The caches are backed by Caffeine, their size and TTL limits are set by the
+ *     {@code spring.cache.caffeine.spec} property, and their hit, miss and eviction statistics
+ *     are published as {@code cache.*} metrics through actuator. They hold immutable summaries,
+ *     never managed entities.</p>
+ *
+ * <p>The cache manager is transaction-aware: puts and evictions made inside a transaction are
+ *     applied after its commit, and dropped on rollback, so a reader cannot cache the previous
+ *     state of an aggregate between an eviction and the commit of its change.</p>
+ */
+@Configuration
+@EnableCaching
+public class CachingConfiguration {
+
+  /**
+   * Cache of profile summaries by profile ID.
+   */
+  public static final String PROFILES_CACHE = "profiles";
+
+  /**
+   * Cache of student summaries by student code.
+   */
+  public static final String STUDENTS_BY_CODE_CACHE = "students-by-code";
+
+  /**
+   * Cache of positive and negative profile existence checks made by the faculties context.
+   */
+  public static final String PROFILE_EXISTENCE_CACHE = "profile-existence";
+
+  /**
+   * Makes the Caffeine cache manager defer cache operations to the end of the transaction.
+   *
+   * @return the customizer of the Caffeine cache manager
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> transactionAwareCacheManagerCustomizer() {
+    return cacheManager -> cacheManager.setTransactionAware(true);
+  }
+}
@@ -0,0 +1,147 @@
+package pe.edu.upc.center.platform.shared.infrastructure.concurrency.bulkhead;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource that admits at most as many concurrent connection holders as the pool has
+ * connections, queueing the rest in arrival order on a fair semaphore.
+ *
+ * <p>With virtual threads every request gets its own thread, so thousands of them can ask for
+ *     a connection at once. The bulkhead keeps them parked cheaply and in order instead of
+ *     contending on the pool, and fails a request with a transient connection exception once
+ *     it has waited longer than the acquire timeout. The permit is released when the connection
+ *     is closed.</p>
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final long acquireTimeoutNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param targetDataSource the pooled data source
+   * @param maxConcurrency   the number of permits, the size of the connection pool
+   * @param acquireTimeout   the maximum time to wait for a permit
+   */
+  public BulkheadDataSource(DataSource targetDataSource, int maxConcurrency,
+                            Duration acquireTimeout) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    return guarded(() -> obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    return guarded(() -> obtainTargetDataSource().getConnection(username, password));
+  }
+
+  /**
+   * Returns the number of requests waiting for a permit.
+   *
+   * @return the queue length
+   */
+  public int getQueueLength() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * Returns the number of permits not in use.
+   *
+   * @return the available permits
+   */
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException("Database bulkhead is full, no connection "
+            + "became available within " + Duration.ofNanos(acquireTimeoutNanos).toMillis()
+            + " ms (" + permits.getQueueLength() + " requests waiting)");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+    }
+  }
+
+  private Connection guarded(ConnectionSupplier supplier) throws SQLException {
+    Connection connection;
+    try {
+      connection = supplier.get();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+  }
+
+  /**
+   * Delegates every call to the pooled connection and releases the permit on the first close.
+   */
+  private final class PermitReleasingHandler implements InvocationHandler {
+
+    private final Connection connection;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private PermitReleasingHandler(Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "close":
+          if (released.compareAndSet(false, true)) {
+            try {
+              return delegate(method, args);
+            } finally {
+              permits.release();
+            }
+          }
+          return null;
+        default:
+          return delegate(method, args);
+      }
+    }
+
+    private Object delegate(Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+    Connection get() throws SQLException;
+  }
+}
@@ -0,0 +1,39 @@
+package pe.edu.upc.center.platform.shared.infrastructure.concurrency.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * Wraps the Hikari pool in a {@link BulkheadDataSource} sized to its maximum pool size.
+ */
+public class BulkheadDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(BulkheadDataSourcePostProcessor.class);
+
+  private BulkheadProperties properties = new BulkheadProperties();
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    this.properties = Binder.get(environment)
+        .bind(BulkheadProperties.PREFIX, BulkheadProperties.class)
+        .orElseGet(BulkheadProperties::new);
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!properties.isEnabled() || !(bean instanceof HikariDataSource hikariDataSource)) {
+      return bean;
+    }
+    var maxConcurrency = hikariDataSource.getMaximumPoolSize();
+    LOGGER.info("Database bulkhead enabled for {} with {} permits and a {} ms acquire timeout",
+        beanName, maxConcurrency, properties.getAcquireTimeout().toMillis());
+    return new BulkheadDataSource(hikariDataSource, maxConcurrency,
+        properties.getAcquireTimeout());
+  }
+}
@@ -0,0 +1,26 @@
+package pe.edu.upc.center.platform.shared.infrastructure.concurrency.bulkhead;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties of the database bulkhead, bound from
+ * {@code platform.datasource.bulkhead}.
+ */
+@Getter
+@Setter
+public class BulkheadProperties {
+
+  public static final String PREFIX = "platform.datasource.bulkhead";
+
+  /**
+   * Whether connection requests go through the bulkhead when virtual threads are enabled.
+   */
+  private boolean enabled;
+
+  /**
+   * Maximum time a request waits for a permit before failing.
+   */
+  private Duration acquireTimeout = Duration.ofSeconds(2);
+}
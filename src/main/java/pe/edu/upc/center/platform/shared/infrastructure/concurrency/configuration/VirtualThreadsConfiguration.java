@@ -0,0 +1,80 @@
+package pe.edu.upc.center.platform.shared.infrastructure.concurrency.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.upc.center.platform.shared.infrastructure.concurrency.bulkhead.BulkheadDataSource;
+import pe.edu.upc.center.platform.shared.infrastructure.concurrency.bulkhead.BulkheadDataSourcePostProcessor;
+import pe.edu.upc.center.platform.shared.infrastructure.concurrency.pinning.VirtualThreadPinningMonitor;
+
+/**
+ * Configuration class of the virtual thread execution mode.
+ *
+ * <p>With {@code spring.threads.virtual.enabled=true} Spring Boot serves the requests and runs
+ *     the async and scheduled tasks on virtual threads. This configuration then puts the
+ *     database bulkhead in front of the connection pool and reports carrier thread pinning.</p>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+  /**
+   * Wraps the connection pool in the database bulkhead.
+   *
+   * @return the bean post processor that wraps the pool
+   */
+  @Bean
+  public static BulkheadDataSourcePostProcessor bulkheadDataSourcePostProcessor() {
+    return new BulkheadDataSourcePostProcessor();
+  }
+
+  /**
+   * Publishes the requests waiting on each database bulkhead and its available permits, tagged
+   * with the name of the pool behind it.
+   *
+   * @param dataSources the application data sources
+   * @return the binder of the bulkhead gauges
+   */
+  @Bean
+  public MeterBinder bulkheadMetrics(ObjectProvider<DataSource> dataSources) {
+    return registry -> dataSources.orderedStream().forEach(candidate -> {
+      if (candidate instanceof BulkheadDataSource bulkhead) {
+        var pool = bulkhead.getTargetDataSource() instanceof HikariDataSource hikari
+            ? hikari.getPoolName() : "default";
+        Gauge.builder("platform.datasource.bulkhead.waiting", bulkhead,
+                BulkheadDataSource::getQueueLength)
+            .description("Requests waiting for a database bulkhead permit")
+            .tag("pool", pool)
+            .register(registry);
+        Gauge.builder("platform.datasource.bulkhead.available", bulkhead,
+                BulkheadDataSource::getAvailablePermits)
+            .description("Database bulkhead permits not in use")
+            .tag("pool", pool)
+            .register(registry);
+      }
+    });
+  }
+
+  /**
+   * Reports virtual threads pinned to their carrier thread.
+   *
+   * @param threshold     the minimum pinned duration reported
+   * @param meterRegistry the registry where the pinning meters are published
+   * @return the pinning monitor
+   */
+  @Bean
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      @Value("${platform.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+      MeterRegistry meterRegistry) {
+    return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+  }
+}
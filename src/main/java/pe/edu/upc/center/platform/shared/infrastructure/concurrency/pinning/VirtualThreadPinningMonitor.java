@@ -0,0 +1,91 @@
+package pe.edu.upc.center.platform.shared.infrastructure.concurrency.pinning;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Streams the {@code jdk.VirtualThreadPinned} JFR events of the running JVM, which are emitted
+ * when a virtual thread blocks while pinned to its carrier thread for longer than the threshold.
+ *
+ * <p>Every event is logged with the top frames of the pinned stack and counted in the
+ *     {@code platform.virtual_threads.pinned} counter and timer.</p>
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 8;
+
+  private final Duration threshold;
+  private final Counter pinnedCounter;
+  private final Timer pinnedTimer;
+  private RecordingStream recordingStream;
+
+  /**
+   * Constructor.
+   *
+   * @param threshold     the minimum pinned duration reported
+   * @param meterRegistry the registry where the pinning meters are published
+   */
+  public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+    this.threshold = threshold;
+    this.pinnedCounter = Counter.builder("platform.virtual_threads.pinned")
+        .description("Virtual threads that blocked while pinned to their carrier thread")
+        .register(meterRegistry);
+    this.pinnedTimer = Timer.builder("platform.virtual_threads.pinned.duration")
+        .description("Time virtual threads stayed blocked while pinned")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public synchronized void start() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::report);
+    recordingStream.startAsync();
+    LOGGER.info("Reporting virtual thread pinning longer than {} ms", threshold.toMillis());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return recordingStream != null;
+  }
+
+  private void report(RecordedEvent event) {
+    pinnedCounter.increment();
+    pinnedTimer.record(event.getDuration());
+
+    var stack = new StringBuilder();
+    var stackTrace = event.getStackTrace();
+    if (stackTrace != null) {
+      var frames = stackTrace.getFrames();
+      for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+        stack.append("\n\tat ").append(describe(frames.get(i)));
+      }
+    }
+    LOGGER.warn("Virtual thread {} pinned its carrier for {} ms{}",
+        event.getThread() == null ? "?" : event.getThread().getJavaName(),
+        event.getDuration().toMillis(), stack);
+  }
+
+  private static String describe(RecordedFrame frame) {
+    var method = frame.getMethod();
+    return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+  }
+}
@@ -0,0 +1,18 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publisher used while no broker publisher is registered, it logs every message.
+ */
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LoggingOutboxPublisher.class);
+
+  @Override
+  public void publish(OutboxMessage message) {
+    LOGGER.info("Outbox message {} {} {} {}: {}", message.getId(), message.getAggregateType(),
+        message.getAggregateId(), message.getEventType(), message.getPayload());
+  }
+}
@@ -0,0 +1,59 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+
+/**
+ * Records every domain event in the outbox, in the transaction that registered it.
+ *
+ * <p>Events are published by the repositories when an aggregate is saved or deleted. They are
+ *     written right before the commit, so the message and the aggregate change are committed or
+ *     rolled back together. An event published outside a transaction could not be recorded
+ *     with its change, so it is rejected with an exception instead of being dropped, which is
+ *     why the command handlers are transactional.</p>
+ */
+@Component
+public class OutboxEventRecorder {
+
+  private final OutboxMessageRepository outboxMessageRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructor for OutboxEventRecorder.
+   *
+   * @param outboxMessageRepository the outbox repository
+   * @param objectMapper the mapper used to serialize the events
+   */
+  public OutboxEventRecorder(OutboxMessageRepository outboxMessageRepository,
+                             ObjectMapper objectMapper) {
+    this.outboxMessageRepository = outboxMessageRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Writes a domain event to the outbox.
+   *
+   * @param event the domain event
+   * @throws IllegalStateException if the event is published outside a transaction
+   */
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void on(DomainEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Event " + event.getClass().getSimpleName()
+          + " published outside a transaction, it cannot be recorded in the outbox");
+    }
+    try {
+      var payload = this.objectMapper.writeValueAsString(event);
+      this.outboxMessageRepository.save(new OutboxMessage(event, payload, Instant.now()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to serialize event "
+          + event.getClass().getSimpleName() + ": " + e.getMessage(), e);
+    }
+  }
+}
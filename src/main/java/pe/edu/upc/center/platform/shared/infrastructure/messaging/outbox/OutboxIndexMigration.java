@@ -0,0 +1,51 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.migrations.SchemaMigration;
+
+/**
+ * Creates the indexes of the outbox table at startup.
+ *
+ * <p>The pending messages are found through a partial index on the ID restricted to the
+ *     unpublished messages that are not parked, which stays as small as the backlog however long
+ *     the published history is. The published messages are purged through an index on the
+ *     recording time. The statements run on every startup, {@code IF EXISTS} and
+ *     {@code IF NOT EXISTS} make them no-ops once the indexes are in place.</p>
+ */
+@Component
+public class OutboxIndexMigration implements SchemaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxIndexMigration.class);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor for OutboxIndexMigration.
+   *
+   * @param jdbcTemplate the JDBC template used to create the indexes
+   */
+  public OutboxIndexMigration(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public int getOrder() {
+    return OUTBOX_INDEXES_ORDER;
+  }
+
+  @Override
+  public void migrate() {
+    this.jdbcTemplate.execute("""
+        CREATE INDEX IF NOT EXISTS idx_outbox_messages_relayable
+        ON outbox_messages (id) WHERE published_at IS NULL AND failed_at IS NULL""");
+    this.jdbcTemplate.execute("DROP INDEX IF EXISTS idx_outbox_messages_pending");
+    this.jdbcTemplate.execute("""
+        CREATE INDEX IF NOT EXISTS idx_outbox_messages_occurred_at
+        ON outbox_messages (occurred_at)""");
+    LOGGER.info("Outbox indexes idx_outbox_messages_relayable and idx_outbox_messages_occurred_at"
+        + " checked");
+  }
+}
@@ -0,0 +1,113 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import java.time.Instant;
+import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import pe.edu.upc.center.platform.shared.domain.model.events.DomainEvent;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.configuration.generator.PooledSequenceIdGenerator;
+
+/**
+ * A domain event waiting in the outbox to be relayed to the message publisher.
+ *
+ * <p>Messages are inserted in the transaction that registered the event and marked as published
+ *     by the relay. Identifiers come from a pooled sequence, see
+ *     {@link PooledSequenceIdGenerator}, so the messages of a batch command are inserted in JDBC
+ *     batches with the aggregates.</p>
+ *
+ * <p>A message the publisher fails to publish is retried once its {@code nextAttemptAt} has
+ *     passed, and parked with a {@code failedAt} time after too many attempts. Parked messages
+ *     are no longer relayed, clearing {@code failed_at} requeues them.</p>
+ */
+@Entity
+@Getter
+public class OutboxMessage {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  @Id
+  @GeneratedValue(generator = "pooled_sequence")
+  @GenericGenerator(name = "pooled_sequence", type = PooledSequenceIdGenerator.class)
+  private Long id;
+
+  @Column(name = "aggregate_type", length = 50, nullable = false, updatable = false)
+  private String aggregateType;
+
+  @Column(name = "aggregate_id", length = 36, nullable = false, updatable = false)
+  private String aggregateId;
+
+  @Column(name = "event_type", length = 100, nullable = false, updatable = false)
+  private String eventType;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "payload", nullable = false, updatable = false)
+  private String payload;
+
+  @Column(name = "occurred_at", nullable = false, updatable = false)
+  private Instant occurredAt;
+
+  @Column(name = "published_at")
+  private Instant publishedAt;
+
+  @ColumnDefault("0")
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at")
+  private Instant nextAttemptAt;
+
+  @Column(name = "failed_at")
+  private Instant failedAt;
+
+  @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  /**
+   * Default constructor for JPA.
+   */
+  protected OutboxMessage() {
+  }
+
+  /**
+   * Constructs an OutboxMessage for a domain event.
+   *
+   * @param event the domain event
+   * @param payload the event serialized as JSON
+   * @param occurredAt the time the event was recorded
+   */
+  public OutboxMessage(DomainEvent event, String payload, Instant occurredAt) {
+    this.aggregateType = event.aggregateType();
+    this.aggregateId = event.aggregateId();
+    this.eventType = event.getClass().getSimpleName();
+    this.payload = payload;
+    this.occurredAt = occurredAt;
+  }
+
+  /**
+   * Records a failed publication of the message.
+   *
+   * @param error the error message of the publisher
+   * @param nextAttemptAt the time before which the message is not retried
+   */
+  public void recordFailedAttempt(String error, Instant nextAttemptAt) {
+    this.attempts++;
+    this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+        ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    this.nextAttemptAt = nextAttemptAt;
+  }
+
+  /**
+   * Parks the message as failed, so the relay no longer publishes it.
+   *
+   * @param failedAt the time the message was parked
+   */
+  public void park(Instant failedAt) {
+    this.failedAt = failedAt;
+  }
+}
@@ -0,0 +1,78 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing OutboxMessage entities.
+ *
+ * <p>Pending messages are found through the partial index created by
+ *     {@link OutboxIndexMigration}, whose size depends on the backlog and not on the history.</p>
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+  /**
+   * Locks the oldest pending messages due for an attempt, skipping those already locked by
+   * another relay.
+   *
+   * <p>The locks are held until the calling transaction ends, so several nodes can relay in
+   *     parallel without publishing a message twice. Parked messages and messages waiting for
+   *     their retry are skipped.</p>
+   *
+   * @param now the current time, compared with the time of the next attempt
+   * @param limit the maximum number of messages to lock
+   * @return the locked messages, in insertion order
+   */
+  @Query(value = """
+      SELECT * FROM outbox_messages
+      WHERE published_at IS NULL AND failed_at IS NULL
+        AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+      ORDER BY id
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+  List<OutboxMessage> lockPending(@Param("now") Instant now, @Param("limit") int limit);
+
+  /**
+   * Marks messages as published.
+   *
+   * @param ids the IDs of the published messages
+   * @param publishedAt the publication time
+   * @return the number of updated messages
+   */
+  @Modifying
+  @Query("update OutboxMessage m set m.publishedAt = :publishedAt where m.id in :ids")
+  int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+  /**
+   * Finds the time the oldest pending message was recorded, parked messages excluded.
+   *
+   * @return the time of the oldest pending message, or empty if the outbox is drained
+   */
+  @Query("""
+      select min(m.occurredAt) from OutboxMessage m
+      where m.publishedAt is null and m.failedAt is null""")
+  Optional<Instant> findOldestPendingOccurredAt();
+
+  /**
+   * Deletes published messages recorded before a given time.
+   *
+   * @param before the time before which published messages are deleted
+   * @param limit the maximum number of messages to delete
+   * @return the number of deleted messages
+   */
+  @Modifying
+  @Query(value = """
+      DELETE FROM outbox_messages WHERE id IN (
+          SELECT id FROM outbox_messages
+          WHERE published_at IS NOT NULL AND occurred_at < :before
+          LIMIT :limit)""", nativeQuery = true)
+  int deletePublishedBefore(@Param("before") Instant before, @Param("limit") int limit);
+}
@@ -0,0 +1,65 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the outbox relay, bound from {@code platform.outbox}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = OutboxProperties.PREFIX)
+public class OutboxProperties {
+
+  public static final String PREFIX = "platform.outbox";
+
+  /**
+   * Whether this node relays the outbox, events are recorded in any case.
+   */
+  private boolean relayEnabled = true;
+
+  /**
+   * Time between the end of a relay run and the start of the next one.
+   */
+  private Duration relayInterval = Duration.ofSeconds(1);
+
+  /**
+   * Maximum number of messages locked and published in one transaction.
+   */
+  private int batchSize = 100;
+
+  /**
+   * Maximum number of batches relayed in one run, so a large backlog does not hold the
+   * scheduler.
+   */
+  private int maxBatchesPerRun = 50;
+
+  /**
+   * Number of failed publications after which a message is parked as failed and no longer
+   * relayed.
+   */
+  private int maxAttempts = 20;
+
+  /**
+   * Delay before the first retry of a message the publisher failed to publish, doubled on every
+   * further failure.
+   */
+  private Duration retryBackoff = Duration.ofSeconds(1);
+
+  /**
+   * Maximum delay between two retries of a message.
+   */
+  private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+  /**
+   * Time published messages are kept before they are deleted, zero to keep them.
+   */
+  private Duration retention = Duration.ofDays(7);
+
+  /**
+   * Time between two deletions of the published messages older than the retention.
+   */
+  private Duration purgeInterval = Duration.ofMinutes(10);
+}
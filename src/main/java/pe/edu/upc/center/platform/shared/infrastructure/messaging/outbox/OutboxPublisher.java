@@ -0,0 +1,20 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+/**
+ * Publishes the outbox messages to the downstream systems.
+ *
+ * <p>The relay calls it with the messages in insertion order, inside the transaction that holds
+ *     their locks. A message counts as published once this method returns, so an implementation
+ *     must throw when the broker does not acknowledge it. Delivery is at least once and, when
+ *     several nodes relay, the events of one aggregate may arrive out of order, so consumers
+ *     deduplicate by message ID and treat events as notifications to refresh the aggregate.</p>
+ */
+public interface OutboxPublisher {
+
+  /**
+   * Publishes a message.
+   *
+   * @param message the message to publish
+   */
+  void publish(OutboxMessage message);
+}
@@ -0,0 +1,190 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox in batches and hands the messages to the {@link OutboxPublisher}.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, published and marked as
+ *     published in one transaction, so several nodes can relay in parallel, each one taking the
+ *     pending messages the others have not locked. When the publisher fails on a message, the
+ *     attempt is recorded on it and the rest of the batch is published. The message is retried
+ *     after a backoff doubled on every failure, and parked as failed once
+ *     {@code platform.outbox.max-attempts} attempts have failed, so a message the publisher
+ *     always rejects does not hold back the outbox. A retried message may be published after
+ *     messages recorded later. When no message of a batch can be published the run stops.</p>
+ *
+ * <p>The relay publishes the {@link #PUBLISHED_COUNTER}, {@link #FAILURES_COUNTER} and
+ *     {@link #PARKED_COUNTER} counters, the {@link #LAG_TIMER} timer with the time from recording to publication of
+ *     every message, and the {@link #PENDING_AGE_GAUGE} gauge with the age of the oldest
+ *     pending message at the end of the last run.</p>
+ */
+public class OutboxRelay {
+
+  public static final String PUBLISHED_COUNTER = "platform.outbox.published";
+  public static final String FAILURES_COUNTER = "platform.outbox.failures";
+  public static final String PARKED_COUNTER = "platform.outbox.parked";
+  public static final String LAG_TIMER = "platform.outbox.lag";
+  public static final String PENDING_AGE_GAUGE = "platform.outbox.pending.age";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxMessageRepository outboxMessageRepository;
+  private final OutboxPublisher outboxPublisher;
+  private final OutboxProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter publishedCounter;
+  private final Counter failuresCounter;
+  private final Counter parkedCounter;
+  private final Timer lagTimer;
+
+  private volatile double pendingAgeSeconds;
+
+  /**
+   * Constructor for OutboxRelay.
+   *
+   * @param outboxMessageRepository the outbox repository
+   * @param outboxPublisher the publisher the messages are handed to
+   * @param properties the outbox properties
+   * @param transactionManager the transaction manager of the relay batches
+   * @param meterRegistry the registry where the relay meters are published
+   */
+  public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                     OutboxPublisher outboxPublisher, OutboxProperties properties,
+                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+    this.outboxMessageRepository = outboxMessageRepository;
+    this.outboxPublisher = outboxPublisher;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.publishedCounter = Counter.builder(PUBLISHED_COUNTER)
+        .description("Outbox messages published")
+        .register(meterRegistry);
+    this.failuresCounter = Counter.builder(FAILURES_COUNTER)
+        .description("Failed outbox message publications and relay runs")
+        .register(meterRegistry);
+    this.parkedCounter = Counter.builder(PARKED_COUNTER)
+        .description("Outbox messages parked after too many failed publications")
+        .register(meterRegistry);
+    this.lagTimer = Timer.builder(LAG_TIMER)
+        .description("Time from the recording of an outbox message to its publication")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    Gauge.builder(PENDING_AGE_GAUGE, this, relay -> relay.pendingAgeSeconds)
+        .description("Age of the oldest pending outbox message")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Relays the pending messages, batch after batch, until the outbox is drained, no message of
+   * a batch can be published or the maximum number of batches per run is reached.
+   */
+  @Scheduled(fixedDelayString = "${" + OutboxProperties.PREFIX + ".relay-interval:1s}")
+  public void relay() {
+    try {
+      for (int batch = 0; batch < this.properties.getMaxBatchesPerRun(); batch++) {
+        var relayedBatch = this.transactionTemplate.execute(status -> relayBatch());
+        this.publishedCounter.increment(relayedBatch.published());
+        if (!relayedBatch.full()) {
+          break;
+        }
+      }
+      var oldestPending = this.transactionTemplate.execute(status ->
+          this.outboxMessageRepository.findOldestPendingOccurredAt());
+      this.pendingAgeSeconds = oldestPending
+          .map(occurredAt -> Duration.between(occurredAt, Instant.now()).toMillis() / 1000.0)
+          .orElse(0.0);
+    } catch (DataAccessException e) {
+      this.failuresCounter.increment();
+      LOGGER.warn("Outbox relay failed, pending messages are retried on the next run: {}",
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Deletes the published messages older than the retention, in chunks.
+   */
+  @Scheduled(fixedDelayString = "${" + OutboxProperties.PREFIX + ".purge-interval:10m}")
+  public void purge() {
+    if (this.properties.getRetention().isZero()) {
+      return;
+    }
+    var before = Instant.now().minus(this.properties.getRetention());
+    var chunkSize = this.properties.getBatchSize() * 10;
+    try {
+      int deleted;
+      do {
+        deleted = Objects.requireNonNull(this.transactionTemplate.execute(status ->
+            this.outboxMessageRepository.deletePublishedBefore(before, chunkSize)));
+      } while (deleted == chunkSize);
+    } catch (DataAccessException e) {
+      LOGGER.warn("Outbox purge failed: {}", e.getMessage());
+    }
+  }
+
+  private RelayedBatch relayBatch() {
+    var messages = this.outboxMessageRepository.lockPending(Instant.now(),
+        this.properties.getBatchSize());
+    var publishedIds = new ArrayList<Long>(messages.size());
+    for (var message : messages) {
+      try {
+        this.outboxPublisher.publish(message);
+      } catch (RuntimeException e) {
+        this.failuresCounter.increment();
+        recordFailedAttempt(message, e);
+        continue;
+      }
+      publishedIds.add(message.getId());
+      this.lagTimer.record(Duration.between(message.getOccurredAt(), Instant.now()));
+    }
+    if (!publishedIds.isEmpty()) {
+      this.outboxMessageRepository.markPublished(publishedIds, Instant.now());
+    }
+    return new RelayedBatch(publishedIds.size(),
+        !publishedIds.isEmpty() && messages.size() == this.properties.getBatchSize());
+  }
+
+  private void recordFailedAttempt(OutboxMessage message, RuntimeException e) {
+    var now = Instant.now();
+    message.recordFailedAttempt(e.getMessage(), now.plus(retryBackoff(message.getAttempts())));
+    if (message.getAttempts() < this.properties.getMaxAttempts()) {
+      LOGGER.warn("Unable to publish outbox message {}, attempt {} failed, retrying at {}: {}",
+          message.getId(), message.getAttempts(), message.getNextAttemptAt(), e.getMessage());
+      return;
+    }
+    message.park(now);
+    this.parkedCounter.increment();
+    LOGGER.error("Unable to publish outbox message {} after {} attempts, parked as failed: {}",
+        message.getId(), message.getAttempts(), e.getMessage());
+  }
+
+  private Duration retryBackoff(int failedAttempts) {
+    var backoff = this.properties.getRetryBackoff()
+        .multipliedBy(1L << Math.min(failedAttempts, 20));
+    return backoff.compareTo(this.properties.getMaxRetryBackoff()) < 0
+        ? backoff : this.properties.getMaxRetryBackoff();
+  }
+
+  /**
+   * Outcome of a relay batch.
+   *
+   * @param published the number of messages published
+   * @param full whether the batch was full and at least one message was published, so more
+   *     messages may wait
+   */
+  private record RelayedBatch(int published, boolean full) {
+  }
+}
@@ -0,0 +1,62 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.LoggingOutboxPublisher;
+import pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.OutboxMessageRepository;
+import pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.OutboxProperties;
+import pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.OutboxPublisher;
+import pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.OutboxRelay;
+
+/**
+ * Configuration class of the transactional outbox.
+ *
+ * <p>Domain events are always recorded in the outbox by the
+ *     {@code OutboxEventRecorder}. The relay runs on every node with
+ *     {@code platform.outbox.relay-enabled=true}, the default, and hands the messages to the
+ *     {@link OutboxPublisher} bean, a logging publisher unless a broker publisher is
+ *     registered.</p>
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfiguration {
+
+  /**
+   * Creates the publisher used while no other publisher is registered.
+   *
+   * @return the logging publisher
+   */
+  @Bean
+  @ConditionalOnMissingBean(OutboxPublisher.class)
+  public OutboxPublisher loggingOutboxPublisher() {
+    return new LoggingOutboxPublisher();
+  }
+
+  /**
+   * Creates the outbox relay.
+   *
+   * @param outboxMessageRepository the outbox repository
+   * @param outboxPublisher the publisher the messages are handed to
+   * @param properties the outbox properties
+   * @param transactionManager the transaction manager of the relay batches
+   * @param meterRegistry the registry where the relay meters are published
+   * @return the outbox relay
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = OutboxProperties.PREFIX, name = "relay-enabled",
+      havingValue = "true", matchIfMissing = true)
+  public OutboxRelay outboxRelay(OutboxMessageRepository outboxMessageRepository,
+                                 OutboxPublisher outboxPublisher, OutboxProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+    return new OutboxRelay(outboxMessageRepository, outboxPublisher, properties,
+        transactionManager, meterRegistry);
+  }
+}
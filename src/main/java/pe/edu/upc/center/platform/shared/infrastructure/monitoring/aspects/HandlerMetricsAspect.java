@@ -0,0 +1,154 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.aspects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolationException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.center.platform.profiles.domain.exceptions.ProfileNotfoundException;
+
+/**
+ * Aspect that times every command and query handler and every bounded context facade method.
+ *
+ * <p>Each call is recorded in one of the {@link #COMMANDS_TIMER}, {@link #QUERIES_TIMER} or
+ *     {@link #FACADE_TIMER} timers, tagged with the command, query or facade method name and with
+ *     the outcome of the call. The timers publish a percentile histogram, so the percentiles are
+ *     computed at query time and can be aggregated across instances, and are scraped through the
+ *     actuator {@code prometheus} endpoint.</p>
+ *
+ * <p>The aspect runs before the caching and transaction proxies, so the recorded time includes
+ *     cache hits and commits. Timers are cached by name, type and outcome, a call only costs two
+ *     {@code System.nanoTime()} reads and a map lookup.</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HandlerMetricsAspect {
+
+  public static final String COMMANDS_TIMER = "platform.commands";
+  public static final String QUERIES_TIMER = "platform.queries";
+  public static final String FACADE_TIMER = "platform.facade";
+
+  public static final String OUTCOME_SUCCESS = "success";
+  public static final String OUTCOME_VALIDATION_ERROR = "validation_error";
+  public static final String OUTCOME_NOT_FOUND = "not_found";
+  public static final String OUTCOME_PERSISTENCE_ERROR = "persistence_error";
+  public static final String OUTCOME_ERROR = "error";
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param meterRegistry the registry where the timers are published
+   */
+  public HandlerMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Times the handle methods of the command services.
+   *
+   * @param joinPoint the handle call
+   * @return the result of the handle call
+   * @throws Throwable the exception thrown by the handle call
+   */
+  @Around("execution(* pe.edu.upc.center.platform..domain.services.*CommandService+.handle(..))")
+  public Object timeCommand(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(COMMANDS_TIMER, typeOf(joinPoint), joinPoint);
+  }
+
+  /**
+   * Times the handle methods of the query services.
+   *
+   * @param joinPoint the handle call
+   * @return the result of the handle call
+   * @throws Throwable the exception thrown by the handle call
+   */
+  @Around("execution(* pe.edu.upc.center.platform..domain.services.*QueryService+.handle(..))")
+  public Object timeQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(QUERIES_TIMER, typeOf(joinPoint), joinPoint);
+  }
+
+  /**
+   * Times the public methods of the bounded context facades.
+   *
+   * @param joinPoint the facade call
+   * @return the result of the facade call
+   * @throws Throwable the exception thrown by the facade call
+   */
+  @Around("execution(public * pe.edu.upc.center.platform..interfaces.acl.*ContextFacade.*(..))")
+  public Object timeFacade(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(FACADE_TIMER, joinPoint.getSignature().getName(), joinPoint);
+  }
+
+  private Object time(String name, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      var result = joinPoint.proceed();
+      record(name, type, result instanceof Optional<?> optional && optional.isEmpty()
+          ? OUTCOME_NOT_FOUND : OUTCOME_SUCCESS, start);
+      return result;
+    } catch (Throwable throwable) {
+      record(name, type, outcomeOf(throwable), start);
+      throw throwable;
+    }
+  }
+
+  private void record(String name, String type, String outcome, long start) {
+    long elapsed = System.nanoTime() - start;
+    timers.computeIfAbsent(new TimerKey(name, type, outcome), this::register)
+        .record(elapsed, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer register(TimerKey key) {
+    return Timer.builder(key.name())
+        .description("Latency of the command, query and facade handlers")
+        .tag("type", key.type())
+        .tag("outcome", key.outcome())
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * The command or query record is the first argument of every handle overload, its simple class
+   * name is the type tag.
+   */
+  private static String typeOf(ProceedingJoinPoint joinPoint) {
+    var args = joinPoint.getArgs();
+    return args.length > 0 && args[0] != null
+        ? args[0].getClass().getSimpleName()
+        : joinPoint.getSignature().getName();
+  }
+
+  private static String outcomeOf(Throwable throwable) {
+    if (throwable instanceof ProfileNotfoundException
+        || throwable instanceof EntityNotFoundException) {
+      return OUTCOME_NOT_FOUND;
+    }
+    if (throwable instanceof IllegalArgumentException
+        || throwable instanceof ConstraintViolationException) {
+      return OUTCOME_VALIDATION_ERROR;
+    }
+    if (throwable instanceof PersistenceException
+        || throwable instanceof DataAccessException) {
+      return OUTCOME_PERSISTENCE_ERROR;
+    }
+    return OUTCOME_ERROR;
+  }
+
+  private record TimerKey(String name, String type, String outcome) {
+  }
+}
@@ -0,0 +1,24 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Observation convention of the HTTP server requests that adds the {@code sql.budget} tag set
+ * by {@link SqlMonitoringFilter}: {@code within}, {@code exceeded}, or {@code none} when the
+ * statements of the request were not counted, and the {@code sql.repeated} tag: {@code true},
+ * {@code false} or {@code none}.
+ */
+public class SqlBudgetObservationConvention extends DefaultServerRequestObservationConvention {
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+    var request = context.getCarrier();
+    var budget = request.getAttribute(SqlMonitoringFilter.SQL_BUDGET_ATTRIBUTE);
+    var repeated = request.getAttribute(SqlMonitoringFilter.SQL_REPEATED_ATTRIBUTE);
+    return super.getLowCardinalityKeyValues(context)
+        .and("sql.budget", budget instanceof String outcome ? outcome : "none")
+        .and("sql.repeated", repeated instanceof String outcome ? outcome : "none");
+  }
+}
@@ -0,0 +1,48 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class for the per-request SQL statement monitoring.
+ *
+ * <p>The statements are counted by {@link SqlStatementCountingListener}, registered in the
+ *     {@code spring.jpa.properties.hibernate.session.events.auto} property, and their SQL is
+ *     handed over by {@link SqlRepeatedStatementInspector}, registered in the
+ *     {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} property.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMonitoringProperties.class)
+public class SqlMonitoringConfiguration {
+
+  /**
+   * Registers the monitoring filter right inside the HTTP server observation filter, so the
+   * budget outcome is available when the request observation stops.
+   *
+   * @param properties    the monitoring properties
+   * @param meterRegistry the registry where the per endpoint meters are published
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<SqlMonitoringFilter> sqlMonitoringFilter(
+      SqlMonitoringProperties properties, MeterRegistry meterRegistry) {
+    var registration = new FilterRegistrationBean<>(
+        new SqlMonitoringFilter(properties, meterRegistry));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    return registration;
+  }
+
+  /**
+   * Tags the HTTP server request metrics with the SQL budget outcome.
+   *
+   * @return the observation convention used for the HTTP server requests
+   */
+  @Bean
+  public SqlBudgetObservationConvention sqlBudgetObservationConvention() {
+    return new SqlBudgetObservationConvention();
+  }
+}
@@ -0,0 +1,140 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Filter that counts the SQL statements of every request, records them per endpoint and warns
+ * when an endpoint runs more statements than its budget or repeats the same statement more
+ * times than the repeated statement threshold, the usual sign of an N+1 query.
+ *
+ * <ul>
+ *   <li>{@code platform.http.sql.statements} and {@code platform.http.sql.time} record the
+ *       statements and database time per method and URI pattern.</li>
+ *   <li>The {@code sql.budget} tag of {@code http.server.requests} tells whether the request
+ *       stayed {@code within} its budget or {@code exceeded} it.</li>
+ *   <li>The {@code sql.repeated} tag of {@code http.server.requests} tells whether a statement
+ *       was repeated over the threshold.</li>
+ *   <li>The X-Query-Count and X-Query-Time-Ms headers are added when enabled, by
+ *       {@link SqlStatementHeadersAdvice} before the body is written, or here for responses
+ *       without body.</li>
+ * </ul>
+ */
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+  public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+  public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+  /**
+   * Request attribute holding the budget outcome, {@code within} or {@code exceeded}.
+   */
+  public static final String SQL_BUDGET_ATTRIBUTE =
+      SqlMonitoringFilter.class.getName() + ".SQL_BUDGET";
+
+  /**
+   * Request attribute telling whether a statement was repeated over the threshold,
+   * {@code true} or {@code false}.
+   */
+  public static final String SQL_REPEATED_ATTRIBUTE =
+      SqlMonitoringFilter.class.getName() + ".SQL_REPEATED";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SqlMonitoringFilter.class);
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final SqlMonitoringProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<Endpoint, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param properties    the monitoring properties
+   * @param meterRegistry the registry where the per endpoint meters are published
+   */
+  public SqlMonitoringFilter(SqlMonitoringProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    SqlStatementCounter.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      var count = SqlStatementCounter.stop();
+      var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      var endpoint = new Endpoint(request.getMethod(),
+          Objects.isNull(pattern) ? UNKNOWN_URI : pattern.toString());
+
+      var endpointMeters = meters.computeIfAbsent(endpoint, this::register);
+      endpointMeters.statements().record(count.getStatements());
+      endpointMeters.time().record(count.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+      var budget = properties.budgetFor(endpoint.method(), endpoint.uri());
+      var exceeded = count.getStatements() > budget;
+      request.setAttribute(SQL_BUDGET_ATTRIBUTE, exceeded ? "exceeded" : "within");
+      if (exceeded) {
+        LOGGER.warn("{} {} ran {} SQL statements in {} ms, over its budget of {}",
+            endpoint.method(), endpoint.uri(), count.getStatements(), count.getElapsedMillis(),
+            budget);
+      }
+      var repeated = count.getMostRepeatedExecutions() > properties.getRepeatedStatementThreshold();
+      request.setAttribute(SQL_REPEATED_ATTRIBUTE, String.valueOf(repeated));
+      if (repeated) {
+        LOGGER.warn("{} {} ran the same SQL statement {} times, possible N+1 query: {}",
+            endpoint.method(), endpoint.uri(), count.getMostRepeatedExecutions(),
+            count.getMostRepeatedStatement());
+      }
+      if (properties.isResponseHeaders() && !response.isCommitted()
+          && !response.containsHeader(QUERY_COUNT_HEADER)) {
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(count.getStatements()));
+        response.setHeader(QUERY_TIME_HEADER, String.valueOf(count.getElapsedMillis()));
+      }
+    }
+  }
+
+  private EndpointMeters register(Endpoint endpoint) {
+    var statements = DistributionSummary.builder("platform.http.sql.statements")
+        .description("SQL statements executed per request")
+        .tag("method", endpoint.method())
+        .tag("uri", endpoint.uri())
+        .publishPercentileHistogram()
+        .minimumExpectedValue(1.0)
+        .maximumExpectedValue(1000.0)
+        .register(meterRegistry);
+    var time = Timer.builder("platform.http.sql.time")
+        .description("Time spent executing SQL statements per request")
+        .tag("method", endpoint.method())
+        .tag("uri", endpoint.uri())
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    return new EndpointMeters(statements, time);
+  }
+
+  private record Endpoint(String method, String uri) {
+  }
+
+  private record EndpointMeters(DistributionSummary statements, Timer time) {
+  }
+}
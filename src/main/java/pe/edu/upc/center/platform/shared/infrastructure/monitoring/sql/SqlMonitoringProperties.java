@@ -0,0 +1,69 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the per-request SQL statement monitoring.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "platform.sql-monitoring")
+public class SqlMonitoringProperties {
+
+  /**
+   * Whether the statements of every request are counted.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Whether the X-Query-Count and X-Query-Time-Ms headers are added to the responses.
+   */
+  private boolean responseHeaders = false;
+
+  /**
+   * Maximum number of statements of an endpoint without its own budget.
+   */
+  private int defaultBudget = 20;
+
+  /**
+   * Maximum number of times the same statement may run on its own in a request before the
+   * request is reported as a likely N+1 query.
+   */
+  private int repeatedStatementThreshold = 5;
+
+  /**
+   * Maximum number of statements of specific endpoints.
+   */
+  private List<Budget> budgets = new ArrayList<>();
+
+  /**
+   * Returns the statement budget of an endpoint.
+   *
+   * @param method  the HTTP method of the request
+   * @param pattern the request mapping pattern matched by the request
+   * @return the budget of the endpoint, or the default budget if it has none
+   */
+  public int budgetFor(String method, String pattern) {
+    for (var budget : budgets) {
+      if (budget.pattern().equals(pattern)
+          && (budget.method() == null || budget.method().equalsIgnoreCase(method))) {
+        return budget.maxStatements();
+      }
+    }
+    return defaultBudget;
+  }
+
+  /**
+   * Statement budget of an endpoint.
+   *
+   * @param method        the HTTP method, or null for every method
+   * @param pattern       the request mapping pattern, for example /api/v1/profiles/{profileId}
+   * @param maxStatements the maximum number of statements of a request
+   */
+  public record Budget(String method, String pattern, int maxStatements) {
+  }
+}
@@ -0,0 +1,20 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that hands the SQL of every prepared statement to the
+ * {@link SqlStatementCounter} of the current thread, so that a statement repeated within a
+ * request, the usual sign of an N+1 query, can be reported.
+ *
+ * <p>Registered through the {@code hibernate.session_factory.statement_inspector} property. The
+ *     SQL is returned unchanged.</p>
+ */
+public class SqlRepeatedStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    SqlStatementCounter.prepare(sql);
+    return sql;
+  }
+}
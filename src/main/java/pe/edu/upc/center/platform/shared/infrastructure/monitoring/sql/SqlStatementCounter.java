@@ -0,0 +1,151 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Thread bound counter of the JDBC statements executed by Hibernate and the time spent on them.
+ *
+ * <p>{@link SqlMonitoringFilter} starts a count for every HTTP request and
+ *     {@link SqlStatementCountingListener} adds to it, a thread without a started count is not
+ *     measured.</p>
+ *
+ * <p>The count also keeps how many times each statement ran on its own, with its literals and
+ *     the length of its IN lists normalized, from the SQL handed over by
+ *     {@link SqlRepeatedStatementInspector}. Batch executions are not included, a batch is
+ *     expected to repeat its statement.</p>
+ */
+public final class SqlStatementCounter {
+
+  private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private SqlStatementCounter() {
+  }
+
+  /**
+   * Starts a new count on the current thread, replacing any previous one.
+   *
+   * @return the started count
+   */
+  public static Count start() {
+    var count = new Count();
+    CURRENT.set(count);
+    return count;
+  }
+
+  /**
+   * Returns the count of the current thread.
+   *
+   * @return the count, or null if none was started
+   */
+  public static Count current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Stops the count of the current thread.
+   *
+   * @return the stopped count, or null if none was started
+   */
+  public static Count stop() {
+    var count = CURRENT.get();
+    CURRENT.remove();
+    return count;
+  }
+
+  static void prepare(String sql) {
+    var count = CURRENT.get();
+    if (count != null) {
+      count.preparedSql = sql;
+    }
+  }
+
+  static void record(long elapsedNanos) {
+    var count = CURRENT.get();
+    if (count != null) {
+      count.statements++;
+      count.elapsedNanos += elapsedNanos;
+    }
+  }
+
+  static void recordStatement(long elapsedNanos) {
+    var count = CURRENT.get();
+    if (count != null) {
+      count.statements++;
+      count.elapsedNanos += elapsedNanos;
+      if (count.preparedSql != null) {
+        count.repeat(normalize(count.preparedSql));
+        count.preparedSql = null;
+      }
+    }
+  }
+
+  /**
+   * Returns the shape of a statement: literals replaced by parameters, IN lists of any length
+   * reduced to a single parameter and whitespace collapsed.
+   *
+   * @param sql the statement
+   * @return the normalized statement
+   */
+  static String normalize(String sql) {
+    var normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+    normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+    normalized = PARAMETER_LIST.matcher(normalized).replaceAll("?");
+    return WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+  }
+
+  /**
+   * Statements executed and time spent since the count was started.
+   */
+  public static final class Count {
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private long elapsedNanos;
+    private String preparedSql;
+    private String mostRepeatedStatement;
+    private int mostRepeatedExecutions;
+
+    private Count() {
+    }
+
+    private void repeat(String statement) {
+      var times = executions.merge(statement, 1, Integer::sum);
+      if (times > mostRepeatedExecutions) {
+        mostRepeatedExecutions = times;
+        mostRepeatedStatement = statement;
+      }
+    }
+
+    public int getStatements() {
+      return statements;
+    }
+
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Returns the normalized statement that ran the most times on its own.
+     *
+     * @return the statement, or null if no statement ran on its own
+     */
+    public String getMostRepeatedStatement() {
+      return mostRepeatedStatement;
+    }
+
+    public int getMostRepeatedExecutions() {
+      return mostRepeatedExecutions;
+    }
+  }
+}
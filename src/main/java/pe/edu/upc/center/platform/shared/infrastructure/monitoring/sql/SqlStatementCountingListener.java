@@ -0,0 +1,36 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds every JDBC statement and batch execution to the
+ * {@link SqlStatementCounter} of the current thread.
+ *
+ * <p>Registered for every session through the {@code hibernate.session.events.auto}
+ *     property. An instance belongs to a single session, which is never used by two threads at
+ *     the same time.</p>
+ */
+public class SqlStatementCountingListener implements SessionEventListener {
+
+  private long executionStart;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    SqlStatementCounter.recordStatement(System.nanoTime() - executionStart);
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    SqlStatementCounter.record(System.nanoTime() - executionStart);
+  }
+}
@@ -0,0 +1,52 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the statement count and time of the request to the response headers right before the
+ * body is written, when the response can still take headers.
+ *
+ * <p>Statements executed while the body is serialized are not included in the headers, they
+ *     are included in the metrics.</p>
+ */
+@ControllerAdvice
+public class SqlStatementHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+  private final SqlMonitoringProperties properties;
+
+  /**
+   * Constructor.
+   *
+   * @param properties the monitoring properties
+   */
+  public SqlStatementHeadersAdvice(SqlMonitoringProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+                          Class<? extends HttpMessageConverter<?>> converterType) {
+    return properties.isEnabled() && properties.isResponseHeaders();
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType,
+                                MediaType selectedContentType,
+                                Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                ServerHttpRequest request, ServerHttpResponse response) {
+    var count = SqlStatementCounter.current();
+    if (count != null) {
+      response.getHeaders().set(SqlMonitoringFilter.QUERY_COUNT_HEADER,
+          String.valueOf(count.getStatements()));
+      response.getHeaders().set(SqlMonitoringFilter.QUERY_TIME_HEADER,
+          String.valueOf(count.getElapsedMillis()));
+    }
+    return body;
+  }
+}
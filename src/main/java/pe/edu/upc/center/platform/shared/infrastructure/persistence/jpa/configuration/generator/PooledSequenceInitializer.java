@@ -0,0 +1,92 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.configuration.generator;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.migrations.SchemaMigration;
+
+/**
+ * Aligns the sequences of {@link PooledSequenceIdGenerator} with the existing data at startup.
+ *
+ * <p>Tables created when identifiers used IDENTITY columns already contain rows, while their
+ *     new sequences start at 1. For every entity using the pooled generator, this component
+ *     drops the IDENTITY default of the ID column, sets the sequence increment to the
+ *     configured allocation size and moves the sequence past the highest existing ID.
+ *     It runs first among the schema migrations, on every startup.</p>
+ *
+ * <p>Each step is guarded by a catalog check, {@code pg_attribute.attidentity} for the IDENTITY
+ *     default and {@code pg_sequence.seqincrement} for the increment, and the sequence is only
+ *     moved when an ID beyond its last value exists. Once the schema is aligned, a startup only
+ *     runs these reads and takes no DDL lock on the tables.</p>
+ */
+@Component
+public class PooledSequenceInitializer implements SchemaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledSequenceInitializer.class);
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor for PooledSequenceInitializer.
+   *
+   * @param entityManagerFactory the entity manager factory holding the entity mappings
+   * @param jdbcTemplate the JDBC template used to run the migration statements
+   */
+  public PooledSequenceInitializer(EntityManagerFactory entityManagerFactory,
+                                   JdbcTemplate jdbcTemplate) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public int getOrder() {
+    return POOLED_SEQUENCES_ORDER;
+  }
+
+  @Override
+  public void migrate() {
+    var sessionFactory = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    sessionFactory.getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+      if (descriptor.getGenerator() instanceof PooledSequenceIdGenerator generator
+          && descriptor instanceof AbstractEntityPersister persister) {
+        var databaseStructure = generator.getDatabaseStructure();
+        alignSequence(databaseStructure.getPhysicalName().render(), persister.getTableName(),
+            persister.getIdentifierColumnNames()[0], databaseStructure.getIncrementSize());
+      }
+    });
+  }
+
+  private void alignSequence(String sequence, String table, String idColumn,
+                             int allocationSize) {
+    var identity = this.jdbcTemplate.queryForList("""
+        SELECT attidentity FROM pg_attribute
+        WHERE attrelid = to_regclass(?) AND attname = ? AND NOT attisdropped
+          AND attidentity <> ''""", String.class, table, idColumn);
+    if (!identity.isEmpty()) {
+      this.jdbcTemplate.execute(String.format(
+          "ALTER TABLE %s ALTER COLUMN %s DROP IDENTITY IF EXISTS", table, idColumn));
+      LOGGER.info("IDENTITY default dropped from {}.{}", table, idColumn);
+    }
+    var increments = this.jdbcTemplate.queryForList(
+        "SELECT seqincrement FROM pg_sequence WHERE seqrelid = to_regclass(?)",
+        Long.class, sequence);
+    if (increments.isEmpty() || increments.getFirst() != allocationSize) {
+      this.jdbcTemplate.execute(String.format(
+          "ALTER SEQUENCE %s INCREMENT BY %d", sequence, allocationSize));
+      LOGGER.info("Sequence {} increment set to {}", sequence, allocationSize);
+    }
+    var values = this.jdbcTemplate.queryForList(String.format("""
+        SELECT setval('%1$s', max_id + %4$d) FROM (
+            SELECT (SELECT last_value FROM %1$s) AS last_value,
+                (SELECT COALESCE(MAX(%2$s), 0) FROM %3$s) AS max_id) ids
+        WHERE max_id > last_value""", sequence, idColumn, table, allocationSize), Long.class);
+    if (!values.isEmpty()) {
+      LOGGER.info("Sequence {} for table {} moved to {}", sequence, table, values.getFirst());
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.migrations;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Schema change applied at startup, after the schema update and before the application accepts
+ * requests.
+ *
+ * <p>Migrations are run one after the other by {@link SchemaMigrationRunner} in ascending
+ *     order, under an advisory lock that keeps nodes starting together from migrating at
+ *     the same time. The order of each migration is declared here so the whole sequence reads
+ *     in one place. Every migration must be safe to run on every startup.</p>
+ */
+public interface SchemaMigration extends Ordered {
+
+  /**
+   * Order of the sequence alignment, first since later migrations may insert rows.
+   */
+  int POOLED_SEQUENCES_ORDER = 100;
+
+  /**
+   * Order of the students code column type change.
+   */
+  int STUDENT_CODE_COLUMN_ORDER = 200;
+
+  /**
+   * Order of the profiles search name backfill and index changes.
+   */
+  int PROFILE_INDEXES_ORDER = 300;
+
+  /**
+   * Order of the outbox indexes.
+   */
+  int OUTBOX_INDEXES_ORDER = 400;
+
+  /**
+   * Applies the schema change, doing nothing when it is already applied.
+   */
+  void migrate();
+}
@@ -0,0 +1,67 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.migrations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the {@link SchemaMigration} beans in their declared order once all singletons are
+ * created.
+ *
+ * <p>Spring calls {@link SmartInitializingSingleton} beans in registration order and ignores
+ *     their {@code @Order}, so the migrations are not singleton callbacks themselves and this
+ *     single callback runs them one after the other instead.</p>
+ *
+ * <p>The migrations run while this node holds a session-level advisory lock, on a connection
+ *     kept aside for it. Nodes starting together run the migrations one after the other, so a
+ *     node never sees an index another one is still building, and the later nodes find the
+ *     schema migrated and do nothing.</p>
+ */
+@Component
+public class SchemaMigrationRunner implements SmartInitializingSingleton {
+
+  /**
+   * Name hashed into the key of the advisory lock held while the migrations run.
+   */
+  private static final String LOCK_NAME = "platform.schema-migrations";
+
+  private final ObjectProvider<SchemaMigration> migrations;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor for SchemaMigrationRunner.
+   *
+   * @param migrations the schema migrations of the application
+   * @param jdbcTemplate the JDBC template used to hold the migration lock
+   */
+  public SchemaMigrationRunner(ObjectProvider<SchemaMigration> migrations,
+                               JdbcTemplate jdbcTemplate) {
+    this.migrations = migrations;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+      executeWithLockName(connection, "SELECT pg_advisory_lock(hashtext(?))");
+      try {
+        this.migrations.orderedStream().forEach(SchemaMigration::migrate);
+      } finally {
+        executeWithLockName(connection, "SELECT pg_advisory_unlock(hashtext(?))");
+      }
+      return null;
+    });
+  }
+
+  private static void executeWithLockName(Connection connection, String sql)
+      throws SQLException {
+    try (var statement = connection.prepareStatement(sql)) {
+      statement.setString(1, LOCK_NAME);
+      statement.execute();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+/**
+ * Holds, for the current thread, whether read-only transactions must also go to the primary.
+ *
+ * <p>Set while a command is handled, so the checks it reads see the latest writes, and for the
+ *     requests of a client within the read-your-writes window of its last write.</p>
+ */
+public final class DataSourceRoutingContext {
+
+  private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+  private DataSourceRoutingContext() {
+  }
+
+  /**
+   * Returns whether the current thread must read from the primary.
+   *
+   * @return true if the replica must not be used
+   */
+  public static boolean isPrimaryRequired() {
+    return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+  }
+
+  /**
+   * Routes all the connections of the current thread to the primary.
+   *
+   * @return the previous state, to be passed to {@link #restore(boolean)}
+   */
+  public static boolean requirePrimary() {
+    var previous = isPrimaryRequired();
+    PRIMARY_REQUIRED.set(Boolean.TRUE);
+    return previous;
+  }
+
+  /**
+   * Restores the state saved by {@link #requirePrimary()}.
+   *
+   * @param primaryRequired the previous state
+   */
+  public static void restore(boolean primaryRequired) {
+    if (primaryRequired) {
+      PRIMARY_REQUIRED.set(Boolean.TRUE);
+    } else {
+      PRIMARY_REQUIRED.remove();
+    }
+  }
+}
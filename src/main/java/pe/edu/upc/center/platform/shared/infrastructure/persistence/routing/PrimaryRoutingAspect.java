@@ -0,0 +1,58 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Aspect that routes every command handler to the primary, including the read-only queries it
+ * runs to validate the command.
+ *
+ * <p>It runs right after the metrics aspect and before the transaction proxies, so the
+ *     connection of the command transaction is already routed. When the command is handled
+ *     within an HTTP request, the client is marked for the read-your-writes window.</p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class PrimaryRoutingAspect {
+
+  private final Duration readYourWritesWindow;
+
+  /**
+   * Constructor for PrimaryRoutingAspect.
+   *
+   * @param readYourWritesWindow the time the client reads from the primary after a command
+   */
+  public PrimaryRoutingAspect(Duration readYourWritesWindow) {
+    this.readYourWritesWindow = readYourWritesWindow;
+  }
+
+  /**
+   * Routes the handle methods of the command services to the primary.
+   *
+   * @param joinPoint the handle call
+   * @return the result of the handle call
+   * @throws Throwable the exception thrown by the handle call
+   */
+  @Around("execution(* pe.edu.upc.center.platform..domain.services.*CommandService+.handle(..))")
+  public Object routeCommandToPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+    var previous = DataSourceRoutingContext.requirePrimary();
+    try {
+      var result = joinPoint.proceed();
+      if (!readYourWritesWindow.isZero()
+          && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes
+          attributes) {
+        ReadYourWritesFilter.recordWrite(attributes.getRequest(), attributes.getResponse(),
+            readYourWritesWindow);
+      }
+      return result;
+    } finally {
+      DataSourceRoutingContext.restore(previous);
+    }
+  }
+}
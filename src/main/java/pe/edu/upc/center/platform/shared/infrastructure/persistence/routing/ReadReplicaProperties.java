@@ -0,0 +1,67 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties of the read replica, bound from {@code platform.datasource.replica}.
+ *
+ * <p>The driver, and the username and password when not set, are those of the primary
+ *     {@code spring.datasource}.</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = ReadReplicaProperties.PREFIX)
+public class ReadReplicaProperties {
+
+  public static final String PREFIX = "platform.datasource.replica";
+
+  /**
+   * Whether read-only transactions are routed to the replica.
+   */
+  private boolean enabled = false;
+
+  /**
+   * JDBC URL of the replica.
+   */
+  private String url;
+
+  /**
+   * Login username of the replica, defaults to the primary one.
+   */
+  private String username;
+
+  /**
+   * Login password of the replica, defaults to the primary one.
+   */
+  private String password;
+
+  /**
+   * Maximum size of the replica connection pool.
+   */
+  private int maximumPoolSize = 10;
+
+  /**
+   * Time after a client's own write during which its reads still go to the primary, zero to
+   * disable.
+   */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  /**
+   * Time between two replica health checks.
+   */
+  private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+  /**
+   * Maximum time a replica health check waits for the replica, rounded up to whole seconds.
+   * Kept below the check interval so an unresponsive replica is reported on time.
+   */
+  private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+  /**
+   * Maximum replication lag before the replica is considered unhealthy.
+   */
+  private Duration maxReplicationLag = Duration.ofSeconds(10);
+}
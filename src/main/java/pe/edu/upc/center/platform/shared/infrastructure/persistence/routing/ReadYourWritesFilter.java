@@ -0,0 +1,90 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Filter that routes the requests of a client to the primary during the read-your-writes window
+ * that follows its last write.
+ *
+ * <p>The time of the last write is kept by the client in the {@link #LAST_WRITE_COOKIE} cookie,
+ *     which expires with the window, so the routing needs no server side state.</p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  public static final String LAST_WRITE_COOKIE = "platform_last_write";
+
+  private static final String WRITE_RECORDED_ATTRIBUTE =
+      ReadYourWritesFilter.class.getName() + ".WRITE_RECORDED";
+
+  private final Duration readYourWritesWindow;
+
+  /**
+   * Constructor for ReadYourWritesFilter.
+   *
+   * @param readYourWritesWindow the time the client reads from the primary after a write
+   */
+  public ReadYourWritesFilter(Duration readYourWritesWindow) {
+    this.readYourWritesWindow = readYourWritesWindow;
+  }
+
+  /**
+   * Marks the client of a request as having written now, once per request.
+   *
+   * @param request              the request that wrote
+   * @param response             the response carrying the cookie, ignored if null or committed
+   * @param readYourWritesWindow the time the client reads from the primary after the write
+   */
+  static void recordWrite(HttpServletRequest request, HttpServletResponse response,
+                          Duration readYourWritesWindow) {
+    if (Objects.isNull(response) || response.isCommitted()
+        || Objects.nonNull(request.getAttribute(WRITE_RECORDED_ATTRIBUTE))) {
+      return;
+    }
+    request.setAttribute(WRITE_RECORDED_ATTRIBUTE, Boolean.TRUE);
+    var cookie = ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis()))
+        .path("/")
+        .httpOnly(true)
+        .sameSite("Lax")
+        .maxAge(readYourWritesWindow)
+        .build();
+    response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    if (!isWithinWindow(request)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    var previous = DataSourceRoutingContext.requirePrimary();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      DataSourceRoutingContext.restore(previous);
+    }
+  }
+
+  private boolean isWithinWindow(HttpServletRequest request) {
+    var cookie = WebUtils.getCookie(request, LAST_WRITE_COOKIE);
+    if (Objects.isNull(cookie)) {
+      return false;
+    }
+    try {
+      var elapsed = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+      return elapsed >= 0 && elapsed < readYourWritesWindow.toMillis();
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+}
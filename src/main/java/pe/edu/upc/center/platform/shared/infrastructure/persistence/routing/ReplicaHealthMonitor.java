@@ -0,0 +1,82 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Checks periodically that the replica answers and is not lagging behind the primary.
+ *
+ * <p>The replica is considered unhealthy until the first check succeeds, so reads only move to
+ *     it once it is known to be usable. The lag is zero when the replica has replayed all the
+ *     WAL it received, and unknown, thus accepted, when the database is not in recovery.</p>
+ */
+public class ReplicaHealthMonitor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+  private static final String LAG_QUERY = """
+      SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+          ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp()) END""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration maxReplicationLag;
+
+  private volatile boolean replicaHealthy;
+
+  /**
+   * Constructor for ReplicaHealthMonitor.
+   *
+   * @param replica           the replica data source
+   * @param maxReplicationLag the maximum replication lag of a healthy replica
+   * @param checkTimeout      the maximum time a check waits for the replica
+   */
+  public ReplicaHealthMonitor(DataSource replica, Duration maxReplicationLag,
+                              Duration checkTimeout) {
+    this.jdbcTemplate = new JdbcTemplate(replica);
+    this.jdbcTemplate.setQueryTimeout(
+        (int) Math.max(1, checkTimeout.plusMillis(999).toSeconds()));
+    this.maxReplicationLag = maxReplicationLag;
+  }
+
+  /**
+   * Returns whether the last check found the replica usable.
+   *
+   * @return true if reads can go to the replica
+   */
+  public boolean isReplicaHealthy() {
+    return replicaHealthy;
+  }
+
+  /**
+   * Checks the replica and updates its health.
+   */
+  @Scheduled(fixedDelayString = "${" + ReadReplicaProperties.PREFIX
+      + ".health-check-interval:5s}")
+  public void checkReplica() {
+    boolean healthy;
+    try {
+      var lagSeconds = this.jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+      healthy = Objects.isNull(lagSeconds) || lagSeconds * 1000 <= maxReplicationLag.toMillis();
+      if (!healthy && replicaHealthy) {
+        LOGGER.warn("Replica lagging {} s behind the primary, reads fall back to the primary",
+            lagSeconds);
+      }
+    } catch (DataAccessException e) {
+      healthy = false;
+      if (replicaHealthy) {
+        LOGGER.warn("Replica health check failed, reads fall back to the primary: {}",
+            e.getMessage());
+      }
+    }
+    if (healthy && !replicaHealthy) {
+      LOGGER.info("Replica healthy, read-only transactions are routed to it");
+    }
+    replicaHealthy = healthy;
+  }
+}
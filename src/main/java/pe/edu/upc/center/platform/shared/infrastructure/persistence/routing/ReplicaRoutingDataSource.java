@@ -0,0 +1,41 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Data source of the read-only connections, which go to the replica unless the current thread
+ * requires the primary or the replica is unhealthy.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+  public static final String REPLICA = "replica";
+
+  private final ReplicaHealthMonitor healthMonitor;
+
+  /**
+   * Constructor for ReplicaRoutingDataSource.
+   *
+   * @param primary       the primary data source
+   * @param replica       the replica data source
+   * @param healthMonitor the monitor telling whether the replica can be used
+   */
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                  ReplicaHealthMonitor healthMonitor) {
+    this.healthMonitor = healthMonitor;
+    setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (DataSourceRoutingContext.isPrimaryRequired() || !healthMonitor.isReplicaHealthy()) {
+      return PRIMARY;
+    }
+    return REPLICA;
+  }
+}
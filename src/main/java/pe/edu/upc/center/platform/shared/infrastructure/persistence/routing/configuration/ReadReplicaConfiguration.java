@@ -0,0 +1,176 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Connection;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.routing.PrimaryRoutingAspect;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.routing.ReadReplicaProperties;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.routing.ReadYourWritesFilter;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.routing.ReplicaHealthMonitor;
+import pe.edu.upc.center.platform.shared.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+
+/**
+ * Configuration class of the read replica routing, active with
+ * {@code platform.datasource.replica.enabled=true}.
+ *
+ * <p>The application data source is a lazy connection proxy over the primary pool whose
+ *     read-only connections come from the replica pool instead. Query services run in read-only
+ *     transactions, so they and the read-only facade methods built on them read from the
+ *     replica, while command services and everything outside a read-only transaction use the
+ *     primary. Both pools are regular Hikari pools, wrapped in their own database bulkhead when
+ *     virtual threads are enabled.</p>
+ *
+ * <p>The target connection is chosen on the first statement of a transaction. With
+ *     {@code spring.jpa.open-in-view} the connection would be kept until the end of the
+ *     request, so a request that reads before it writes would run its write on the replica.
+ *     The routing therefore refuses to start unless {@code spring.jpa.open-in-view=false}.</p>
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = ReadReplicaProperties.PREFIX, name = "enabled",
+    havingValue = "true")
+public class ReadReplicaConfiguration {
+
+  /**
+   * Creates the primary connection pool from the {@code spring.datasource} properties.
+   *
+   * @param properties the primary data source properties
+   * @return the primary connection pool
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    var dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+    return dataSource;
+  }
+
+  /**
+   * Creates the replica connection pool, whose connections are read-only.
+   *
+   * @param replica the replica properties
+   * @param primary the primary data source properties, for the driver and default credentials
+   * @return the replica connection pool
+   */
+  @Bean
+  public HikariDataSource replicaDataSource(ReadReplicaProperties replica,
+                                            DataSourceProperties primary) {
+    var dataSource = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .driverClassName(primary.determineDriverClassName())
+        .url(Objects.requireNonNull(replica.getUrl(),
+            ReadReplicaProperties.PREFIX + ".url is required"))
+        .username(Objects.requireNonNullElse(replica.getUsername(), primary.determineUsername()))
+        .password(Objects.requireNonNullElse(replica.getPassword(), primary.determinePassword()))
+        .build();
+    dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+    dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  /**
+   * Creates the monitor of the replica health.
+   *
+   * @param replicaDataSource the replica data source
+   * @param replica           the replica properties
+   * @return the replica health monitor
+   */
+  @Bean
+  public ReplicaHealthMonitor replicaHealthMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReadReplicaProperties replica) {
+    return new ReplicaHealthMonitor(replicaDataSource, replica.getMaxReplicationLag(),
+        replica.getHealthCheckTimeout());
+  }
+
+  /**
+   * Creates the application data source, routing read-only connections to the replica.
+   *
+   * @param primaryDataSource the primary data source
+   * @param replicaDataSource the replica data source
+   * @param healthMonitor     the replica health monitor
+   * @param environment       the environment, to check that open-in-view is disabled
+   * @return the application data source
+   * @throws IllegalStateException if {@code spring.jpa.open-in-view} is enabled
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                               ReplicaHealthMonitor healthMonitor,
+                               Environment environment) {
+    if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+      throw new IllegalStateException("spring.jpa.open-in-view must be false when "
+          + ReadReplicaProperties.PREFIX + ".enabled is true, a request would otherwise keep "
+          + "its first connection and could write through the replica");
+    }
+    var dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(
+        new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, healthMonitor));
+    dataSource.setDefaultAutoCommit(true);
+    dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    return dataSource;
+  }
+
+  /**
+   * Routes the command services to the primary and starts the read-your-writes window.
+   *
+   * @param replica the replica properties
+   * @return the routing aspect
+   */
+  @Bean
+  public PrimaryRoutingAspect primaryRoutingAspect(ReadReplicaProperties replica) {
+    return new PrimaryRoutingAspect(replica.getReadYourWritesWindow());
+  }
+
+  /**
+   * Registers the read-your-writes filter ahead of the request handling.
+   *
+   * @param replica the replica properties
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+      ReadReplicaProperties replica) {
+    var registration = new FilterRegistrationBean<>(
+        new ReadYourWritesFilter(replica.getReadYourWritesWindow()));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+    registration.setEnabled(!replica.getReadYourWritesWindow().isZero());
+    return registration;
+  }
+
+  /**
+   * Publishes whether reads are currently routed to the replica.
+   *
+   * @param healthMonitor the replica health monitor
+   * @return the binder of the replica health gauge
+   */
+  @Bean
+  public MeterBinder replicaHealthMetrics(ReplicaHealthMonitor healthMonitor) {
+    return registry -> Gauge.builder("platform.datasource.replica.healthy", healthMonitor,
+            monitor -> monitor.isReplicaHealthy() ? 1 : 0)
+        .description("Whether read-only transactions are routed to the replica")
+        .register(registry);
+  }
+}
@@ -0,0 +1,69 @@
+package pe.edu.upc.center.platform.shared.infrastructure.serialization;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+/**
+ * Resolves the format a response is written in before its body is built.
+ *
+ * <p>Controllers producing JSON and CBOR need the format up front to version the
+ *     representation, since both formats of a resource must not share an ETag. The format is
+ *     chosen from the Accept header like Spring MVC chooses the message converter: the most
+ *     specific and preferred acceptable type wins, and JSON is used for wildcards.</p>
+ */
+@Component
+public class ResponseFormatNegotiator {
+
+  /**
+   * Formats of the controllers producing JSON and CBOR, in order of preference.
+   */
+  private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON,
+      MediaType.APPLICATION_CBOR);
+
+  private final ContentNegotiationManager contentNegotiationManager;
+
+  /**
+   * Constructor for ResponseFormatNegotiator.
+   *
+   * @param contentNegotiationManager the content negotiation manager of Spring MVC
+   */
+  public ResponseFormatNegotiator(ContentNegotiationManager contentNegotiationManager) {
+    this.contentNegotiationManager = contentNegotiationManager;
+  }
+
+  /**
+   * Resolves the format of the response and adds {@code Vary: Accept} to it, so caches keep
+   * one entry per format.
+   *
+   * @param webRequest the current request
+   * @return the format of the response, JSON when no format is acceptable so the converter
+   *     reports the error
+   */
+  public MediaType negotiate(NativeWebRequest webRequest) {
+    var response = webRequest.getNativeResponse(HttpServletResponse.class);
+    if (Objects.nonNull(response)) {
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+    List<MediaType> acceptableTypes;
+    try {
+      acceptableTypes = this.contentNegotiationManager.resolveMediaTypes(webRequest);
+    } catch (HttpMediaTypeNotAcceptableException e) {
+      return MediaType.APPLICATION_JSON;
+    }
+    for (var acceptableType : acceptableTypes) {
+      for (var format : FORMATS) {
+        if (acceptableType.isCompatibleWith(format)) {
+          return format;
+        }
+      }
+    }
+    return MediaType.APPLICATION_JSON;
+  }
+}
@@ -0,0 +1,32 @@
+package pe.edu.upc.center.platform.shared.infrastructure.serialization.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Configuration class of the binary response format.
+ *
+ * <p>Controllers that list {@code application/cbor} in their produced media types answer in
+ *     CBOR when the Accept header asks for it, and in JSON otherwise. The CBOR mapper is built
+ *     from the same builder as the JSON one, so both share the Spring Boot Jackson settings and
+ *     modules, and the converter replaces the default one registered by Spring MVC.</p>
+ */
+@Configuration
+public class BinaryFormatConfiguration {
+
+  /**
+   * Creates the CBOR message converter.
+   *
+   * @param builder the Jackson builder configured by Spring Boot
+   * @return the CBOR message converter
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        builder.createXmlMapper(false).factory(new CBORFactory()).build());
+  }
+}
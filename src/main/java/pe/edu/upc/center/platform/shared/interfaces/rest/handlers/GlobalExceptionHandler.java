@@ -3,16 +3,19 @@ package pe.edu.upc.center.platform.shared.interfaces.rest.handlers;
 import jakarta.persistence.PersistenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import pe.edu.upc.center.platform.shared.interfaces.rest.resources.IllegalArgumentExceptionResponse;
 import pe.edu.upc.center.platform.shared.interfaces.rest.resources.PersistenceExceptionResponse;
 import pe.edu.upc.center.platform.shared.interfaces.rest.resources.ValidationExceptionResponse;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -32,6 +35,35 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
   }
 
+  /**
+   * Handles the validation errors of list request bodies, reported with the same body as those
+   * of single request bodies. Field names are prefixed with the index of the invalid item.
+   */
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<ValidationExceptionResponse> handleMethodValidationExceptions(
+      HandlerMethodValidationException ex) {
+
+    Map<String, String> errors = new LinkedHashMap<>();
+    for (var result : ex.getParameterValidationResults()) {
+      var index = Objects.isNull(result.getContainerIndex())
+          ? "" : "[" + result.getContainerIndex() + "]";
+      if (result instanceof ParameterErrors parameterErrors) {
+        parameterErrors.getFieldErrors()
+            .forEach(err -> errors.put(index + "." + err.getField(), err.getDefaultMessage()));
+      } else {
+        var name = result.getMethodParameter().getParameterName() + index;
+        result.getResolvableErrors()
+            .forEach(err -> errors.put(name, err.getDefaultMessage()));
+      }
+    }
+
+    var response = new ValidationExceptionResponse(
+        HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST.getReasonPhrase(), "Validation failed", errors);
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
   public ResponseEntity<IllegalArgumentExceptionResponse> handleIllegalArgumentException(
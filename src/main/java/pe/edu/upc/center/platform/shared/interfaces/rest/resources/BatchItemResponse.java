@@ -0,0 +1,13 @@
+package pe.edu.upc.center.platform.shared.interfaces.rest.resources;
+
+/**
+ * Response representing the outcome of one item of a batch request.
+ *
+ * @param index   the position of the item in the request
+ * @param status  CREATED if the item was created, REJECTED otherwise
+ * @param id      the identifier of the created element, or null if rejected
+ * @param message the reason the item was rejected, or null if created
+ * @param <T> the type of the identifier
+ */
+public record BatchItemResponse<T>(int index, String status, T id, String message) {
+}
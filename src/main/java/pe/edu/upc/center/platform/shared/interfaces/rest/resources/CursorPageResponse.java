@@ -0,0 +1,15 @@
+package pe.edu.upc.center.platform.shared.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Response representing a page of items retrieved with keyset pagination.
+ *
+ * @param items      the items of the page
+ * @param limit      the maximum number of items requested
+ * @param nextCursor the cursor to send as {@code after} to get the next page,
+ *     or null if this is the last page
+ * @param <T> the type of the items
+ */
+public record CursorPageResponse<T>(List<T> items, int limit, Long nextCursor) {
+}
@@ -0,0 +1,61 @@
+package pe.edu.upc.center.platform.shared.interfaces.rest.resources;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import org.springframework.http.MediaType;
+
+/**
+ * Validators of a resource representation, sent as the ETag and Last-Modified headers and
+ * checked against the If-None-Match and If-Modified-Since headers of conditional requests.
+ *
+ * <p>A strong ETag identifies one representation, so resources served in several formats tag
+ *     the version with the format, see {@link #forFormat(MediaType)}.</p>
+ *
+ * @param eTag         the strong entity tag, quoted
+ * @param lastModified the last modification time, in milliseconds since the epoch
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+  /**
+   * Returns the version of a resource whose representation only changes when it is updated.
+   *
+   * @param updatedAt the last modification time of the resource
+   * @return the resource version
+   */
+  public static ResourceVersion of(LocalDateTime updatedAt) {
+    var instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    var micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    return new ResourceVersion("\"" + Long.toHexString(micros) + "\"", instant.toEpochMilli());
+  }
+
+  /**
+   * Returns the version of a resource whose representation also depends on the current date,
+   * such as an age computed from a birthdate.
+   *
+   * @param updatedAt the last modification time of the resource
+   * @param today     the date the representation is computed on
+   * @return the resource version, which changes every day
+   */
+  public static ResourceVersion of(LocalDateTime updatedAt, LocalDate today) {
+    var version = of(updatedAt);
+    var startOfDay = today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    return new ResourceVersion(
+        version.eTag().substring(0, version.eTag().length() - 1) + "-"
+            + Long.toHexString(today.toEpochDay()) + "\"",
+        Math.max(version.lastModified(), startOfDay));
+  }
+
+  /**
+   * Returns this version for one format of the resource.
+   *
+   * @param format the media type the representation is written in
+   * @return the resource version, whose ETag differs between formats
+   */
+  public ResourceVersion forFormat(MediaType format) {
+    return new ResourceVersion(eTag.substring(0, eTag.length() - 1) + "-" + format.getSubtype()
+        + "\"", lastModified);
+  }
+}
@@ -1,5 +1,11 @@
 package pe.edu.upc.center.platform.shared.utils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
 public class Util {
   public static final String START_PERIOD_ACTUAL = "202520";
 
@@ -9,4 +15,53 @@ public class Util {
   public static final int PASAPORTE_LENGTH = 10;
   public static final int PTP_LENGTH = 12;
 
+  public static final int MAX_AGE = 100;
+
+  public static final int DEFAULT_PAGE_LIMIT = 50;
+  public static final int MAX_PAGE_LIMIT = 500;
+
+  public static final int DEFAULT_SEARCH_LIMIT = 10;
+  public static final int MAX_SEARCH_LIMIT = 50;
+  public static final int MAX_SEARCH_TEXT_LENGTH = 101;
+
+  public static final int MAX_BATCH_SIZE = 50000;
+  public static final int BATCH_CHUNK_SIZE = 500;
+  public static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+  /**
+   * Splits a list into consecutive chunks of at most the given size.
+   *
+   * @param items the list to split
+   * @param size  the maximum size of each chunk
+   * @return the list of chunks, as views of the original list
+   */
+  public static <T> List<List<T>> partition(List<T> items, int size) {
+    var chunks = new ArrayList<List<T>>();
+    for (int from = 0; from < items.size(); from += size) {
+      chunks.add(items.subList(from, Math.min(from + size, items.size())));
+    }
+    return chunks;
+  }
+
+  /**
+   * Copies a collection of IDs into an immutable list without duplicates, in encounter order.
+   *
+   * @param ids the IDs to copy, may be null
+   * @return the distinct IDs, or null if the collection is null
+   * @throws IllegalArgumentException if any ID is null
+   */
+  public static List<Long> distinctIds(Collection<Long> ids) {
+    if (Objects.isNull(ids)) {
+      return null;
+    }
+    var distinct = new LinkedHashSet<Long>(ids.size() * 2);
+    for (var id : ids) {
+      if (Objects.isNull(id)) {
+        throw new IllegalArgumentException("ids cannot contain null values");
+      }
+      distinct.add(id);
+    }
+    return List.copyOf(distinct);
+  }
+
 }
@@ -0,0 +1,87 @@
+package pe.edu.upc.center.platform.faculties.application.internal.outboundservices.acl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
+import pe.edu.upc.center.platform.profiles.interfaces.acl.ProfilesContextFacade;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
+
+/**
+ * Checks that batched existence lookups never leave a result older than an eviction in the
+ * profile existence cache, and that evictions apply at once inside a transaction.
+ *
+ * <p>The profiles context facade is mocked and the cache manager is transaction-aware, like the
+ *     one of the application.</p>
+ */
+class ExternalProfileServiceTests {
+
+  private static final ProfileId CREATED_PROFILE_ID = new ProfileId(1L);
+  private static final ProfileId EXISTING_PROFILE_ID = new ProfileId(2L);
+
+  private final ProfilesContextFacade profilesContextFacade = mock(ProfilesContextFacade.class);
+
+  private ExternalProfileService externalProfileService;
+  private Cache profileExistenceCache;
+
+  @BeforeEach
+  void createService() {
+    var cacheManager = new CaffeineCacheManager(CachingConfiguration.PROFILE_EXISTENCE_CACHE);
+    cacheManager.setTransactionAware(true);
+    this.externalProfileService = new ExternalProfileService(this.profilesContextFacade,
+        cacheManager);
+    this.profileExistenceCache = cacheManager.getCache(
+        CachingConfiguration.PROFILE_EXISTENCE_CACHE);
+  }
+
+  @Test
+  void batchedResultsAreCached() {
+    when(this.profilesContextFacade.existsProfilesByIds(anyCollection()))
+        .thenReturn(Set.of(EXISTING_PROFILE_ID.profileId()));
+
+    var existing = this.externalProfileService.existsProfilesByIds(
+        List.of(CREATED_PROFILE_ID, EXISTING_PROFILE_ID));
+
+    assertEquals(Set.of(EXISTING_PROFILE_ID), existing);
+    assertEquals(false, this.profileExistenceCache.get(CREATED_PROFILE_ID.profileId()).get());
+    assertEquals(true, this.profileExistenceCache.get(EXISTING_PROFILE_ID.profileId()).get());
+  }
+
+  @Test
+  void batchedResultsAreDroppedWhenAnEvictionRunsDuringTheLookup() {
+    when(this.profilesContextFacade.existsProfilesByIds(anyCollection())).thenAnswer(call -> {
+      // The profile is created and its eviction runs after the lookup read it as missing
+      this.externalProfileService.evictProfileExistence(CREATED_PROFILE_ID);
+      return Set.of(EXISTING_PROFILE_ID.profileId());
+    });
+
+    this.externalProfileService.existsProfilesByIds(
+        List.of(CREATED_PROFILE_ID, EXISTING_PROFILE_ID));
+
+    assertNull(this.profileExistenceCache.get(CREATED_PROFILE_ID.profileId()));
+    assertNull(this.profileExistenceCache.get(EXISTING_PROFILE_ID.profileId()));
+  }
+
+  @Test
+  void evictionsApplyAtOnceInsideATransaction() {
+    this.profileExistenceCache.put(CREATED_PROFILE_ID.profileId(), false);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      this.externalProfileService.evictProfileExistence(CREATED_PROFILE_ID);
+
+      assertNull(this.profileExistenceCache.get(CREATED_PROFILE_ID.profileId()));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package pe.edu.upc.center.platform.faculties.application.internal.readmodels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql.SqlStatementCountMatchers.statementsOf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.faculties.domain.model.projections.StudentSummary;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentSummaryByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.queries.GetStudentVersionByCodeQuery;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.faculties.domain.services.StudentQueryService;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+
+/**
+ * Checks that student lookups are answered by the in-memory read model without SQL statements.
+ *
+ * <p>The seeded student is committed, loaded by reloading the read model, and deleted from
+ *     the database and from the read model after each test.</p>
+ */
+@SpringBootTest(properties = {
+    "platform.students.read-model.enabled=true",
+    "platform.students.read-model.consistency-check-sample-size=0"
+})
+class StudentReadModelTests {
+
+  private static final String STUDENT_CODE = "00000000-0000-4000-8000-000000000002";
+  private static final long PROFILE_ID = 999999998L;
+
+  @Autowired
+  private StudentReadModel studentReadModel;
+
+  @Autowired
+  private StudentQueryService studentQueryService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private StudentReadModelProperties properties;
+
+  @BeforeEach
+  void seedStudent() {
+    this.jdbcTemplate.update("""
+        INSERT INTO students (id, created_at, updated_at, code, profile_id, program_id,
+            curriculum_id, start_period)
+        VALUES (-2, now(), now(), ?::uuid, ?, 1, 1, '202520')""", STUDENT_CODE, PROFILE_ID);
+    this.studentReadModel.load();
+  }
+
+  @AfterEach
+  void deleteStudent() {
+    this.jdbcTemplate.update("DELETE FROM students WHERE id = -2");
+    this.studentReadModel.removeAfterCommit(
+        student(new StudentCode(STUDENT_CODE), new ProfileId(PROFILE_ID)));
+  }
+
+  @Test
+  void lookupsRunNoStatements() {
+    var code = new StudentCode(STUDENT_CODE);
+
+    assertTrue(this.studentReadModel.isReady());
+    assertEquals(0, statementsOf(() -> {
+      var student = this.studentQueryService.handle(new GetStudentSummaryByCodeQuery(code));
+      assertEquals(PROFILE_ID, student.orElseThrow().profileId());
+      assertTrue(this.studentQueryService.handle(new GetStudentVersionByCodeQuery(code))
+          .isPresent());
+      assertTrue(this.studentReadModel.existsByProfileId(new ProfileId(PROFILE_ID)));
+    }));
+  }
+
+  @Test
+  void missingStudentsRunNoStatements() {
+    var code = new StudentCode("00000000-0000-4000-8000-000000000003");
+
+    assertEquals(0, statementsOf(() -> {
+      assertTrue(this.studentQueryService.handle(new GetStudentSummaryByCodeQuery(code))
+          .isEmpty());
+      assertFalse(this.studentReadModel.existsByCode(code));
+    }));
+  }
+
+  @Test
+  void studentsDeletedWhileLoadingAreNotLoaded() {
+    var code = new StudentCode(STUDENT_CODE);
+    var deletedStudent = student(code, new ProfileId(PROFILE_ID));
+    var streamedStudent = new StudentSummary(-2L, code, PROFILE_ID, 1L, 1L, "202520",
+        LocalDateTime.now());
+    var studentRepository = mock(StudentRepository.class);
+    var readModel = new StudentReadModel(studentRepository, this.properties,
+        mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    // The delete commits after the stream has read the student and before it is put
+    when(studentRepository.streamAllSummariesBy()).thenAnswer(invocation -> Stream.of(
+        streamedStudent).peek(student -> readModel.removeAfterCommit(deletedStudent)));
+
+    readModel.load();
+
+    assertTrue(readModel.isReady());
+    assertFalse(readModel.existsByCode(code));
+    assertFalse(readModel.existsByProfileId(new ProfileId(PROFILE_ID)));
+  }
+
+  @Test
+  void consistencyCheckRemovesStudentsMissingFromTheDatabase() {
+    var updatedAt = LocalDateTime.now().minusDays(1);
+    var students = List.of(summary(1L, "00000000-0000-4000-8000-000000000011", updatedAt),
+        summary(2L, "00000000-0000-4000-8000-000000000012", updatedAt),
+        summary(3L, "00000000-0000-4000-8000-000000000013", updatedAt));
+    var studentRepository = mock(StudentRepository.class);
+    when(studentRepository.streamAllSummariesBy()).thenAnswer(invocation -> students.stream());
+    // The last student was deleted by another node, so any checked range includes it
+    when(studentRepository.findSummariesByIdGreaterThan(anyLong(), any(Limit.class)))
+        .thenAnswer(invocation -> students.subList(0, 2).stream()
+            .filter(student -> student.id() > invocation.<Long>getArgument(0))
+            .toList());
+    var properties = new StudentReadModelProperties();
+    properties.setEnabled(true);
+    properties.setConsistencyCheckSampleSize(10);
+    var meterRegistry = new SimpleMeterRegistry();
+    var readModel = new StudentReadModel(studentRepository, properties,
+        mock(PlatformTransactionManager.class), meterRegistry);
+    readModel.load();
+
+    readModel.checkConsistency();
+
+    assertFalse(readModel.existsByCode(students.get(2).code()));
+    assertTrue(readModel.existsByCode(students.get(1).code()));
+    assertEquals(1.0, meterRegistry.counter(StudentReadModel.MISMATCHES_COUNTER).count());
+  }
+
+  private static Student student(StudentCode code, ProfileId profileId) {
+    var student = mock(Student.class);
+    when(student.getCode()).thenReturn(code);
+    when(student.getProfileId()).thenReturn(profileId);
+    return student;
+  }
+
+  private static StudentSummary summary(Long id, String code, LocalDateTime updatedAt) {
+    return new StudentSummary(id, new StudentCode(code), 900_000_000L + id, 1L, 1L, "202520",
+        updatedAt);
+  }
+}
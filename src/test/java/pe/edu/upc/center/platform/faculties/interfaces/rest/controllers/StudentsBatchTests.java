@@ -0,0 +1,203 @@
+package pe.edu.upc.center.platform.faculties.interfaces.rest.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * Checks the validation and the duplicate detection of the student batch endpoint, and that a
+ * row rejected by the database only rejects its own item.
+ *
+ * <p>The profiles enrolled by the tests are created through the profile batch endpoint before
+ *     each test, they are deleted with the students and the outbox messages after it.</p>
+ */
+@SpringBootTest(properties = "platform.outbox.relay-enabled=false")
+@AutoConfigureMockMvc
+class StudentsBatchTests {
+
+  private static final String EMAIL_DOMAIN = "@students.batch.test";
+  private static final int PROFILE_COUNT = Util.BATCH_CHUNK_SIZE + 2;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  private List<Long> profileIds;
+
+  @BeforeEach
+  void seedProfiles() throws Exception {
+    var profiles = new ArrayList<String>();
+    for (int i = 0; i < PROFILE_COUNT; i++) {
+      profiles.add("""
+          {"firstName": "Batch", "lastName": "Student", "documentType": 1,
+           "documentNumber": "55%06d", "birthDate": "2000-01-01", "email": "student%d%s",
+           "street": "Street", "streetNumber": "1", "city": "Lima", "postalCode": "15001",
+           "country": "Peru"}""".formatted(i, i, EMAIL_DOMAIN));
+    }
+    var response = this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(profiles)))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    this.profileIds = JsonPath.<List<Number>>read(response, "$[*].id").stream()
+        .map(Number::longValue)
+        .toList();
+    clearCaches();
+  }
+
+  @AfterEach
+  void deleteSeededRows() {
+    this.jdbcTemplate.update("""
+        DELETE FROM outbox_messages WHERE aggregate_type = 'Student' AND aggregate_id IN (
+            SELECT s.code::text FROM students s JOIN profiles p ON p.id = s.profile_id
+            WHERE p.email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("""
+        DELETE FROM students WHERE profile_id IN (
+            SELECT id FROM profiles WHERE email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("""
+        DELETE FROM outbox_messages WHERE aggregate_type = 'Profile' AND aggregate_id IN (
+            SELECT id::text FROM profiles WHERE email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("DELETE FROM profiles WHERE email_address LIKE ?",
+        "%" + EMAIL_DOMAIN);
+    clearCaches();
+  }
+
+  @Test
+  void invalidItemRejectsTheRequestWithTheValidationBody() throws Exception {
+    this.mockMvc.perform(post("/api/v1/students/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + studentJson(profileId(0)) + ", {\"profileId\": "
+                + profileId(1) + ", \"programId\": 1}]"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Validation failed"))
+        .andExpect(jsonPath("$.fieldErrors['[1].curriculumId']").exists());
+    assertEquals(0, countCreatedStudents());
+  }
+
+  @Test
+  void duplicatesInsideTheRequestAreRejected() throws Exception {
+    var items = List.of(studentJson(profileId(0)), studentJson(profileId(0)),
+        studentJson(profileId(1)));
+
+    this.mockMvc.perform(post("/api/v1/students/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(items)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("CREATED"))
+        .andExpect(jsonPath("$[1].status").value("REJECTED"))
+        .andExpect(jsonPath("$[1].message").value(containsString("duplicated in the batch")))
+        .andExpect(jsonPath("$[2].status").value("CREATED"));
+    assertEquals(2, countCreatedStudents());
+  }
+
+  @Test
+  void duplicatesOfExistingStudentsAreRejected() throws Exception {
+    this.jdbcTemplate.update("""
+        INSERT INTO students (id, created_at, updated_at, code, profile_id, program_id,
+            curriculum_id, start_period)
+        VALUES (-1001, now(), now(), gen_random_uuid(), ?, 1, 1, '202520')""",
+        profileId(0));
+    var items = List.of(studentJson(profileId(0)), studentJson(profileId(1)));
+
+    this.mockMvc.perform(post("/api/v1/students/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(items)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("REJECTED"))
+        .andExpect(jsonPath("$[0].message").value(containsString("already exists")))
+        .andExpect(jsonPath("$[1].status").value("CREATED"));
+    assertEquals(1, countCreatedStudents());
+  }
+
+  @Test
+  void duplicatesAreDetectedAcrossChunks() throws Exception {
+    var items = new ArrayList<String>();
+    for (int i = 0; i < PROFILE_COUNT; i++) {
+      items.add(studentJson(profileId(i)));
+    }
+    items.set(Util.BATCH_CHUNK_SIZE, studentJson(profileId(0)));
+
+    this.mockMvc.perform(post("/api/v1/students/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(items)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("CREATED"))
+        .andExpect(jsonPath("$[" + (Util.BATCH_CHUNK_SIZE - 1) + "].status").value("CREATED"))
+        .andExpect(jsonPath("$[" + Util.BATCH_CHUNK_SIZE + "].status").value("REJECTED"))
+        .andExpect(jsonPath("$[" + (Util.BATCH_CHUNK_SIZE + 1) + "].status").value("CREATED"));
+    assertEquals(Util.BATCH_CHUNK_SIZE + 1, countCreatedStudents());
+  }
+
+  @Test
+  void rowRejectedByTheDatabaseOnlyRejectsItsOwnItem() throws Exception {
+    var rejectedCurriculumId = 987_654L;
+    this.jdbcTemplate.execute("""
+        ALTER TABLE students ADD CONSTRAINT chk_students_batch_test
+        CHECK (curriculum_id <> %d) NOT VALID""".formatted(rejectedCurriculumId));
+    try {
+      var items = List.of(studentJson(profileId(0)),
+          """
+          {"profileId": %d, "programId": 1, "curriculumId": %d}""".formatted(profileId(1),
+              rejectedCurriculumId),
+          studentJson(profileId(2)));
+
+      this.mockMvc.perform(post("/api/v1/students/batch")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(json(items)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$[0].status").value("CREATED"))
+          .andExpect(jsonPath("$[1].status").value("REJECTED"))
+          .andExpect(jsonPath("$[1].message").value("Student could not be saved"))
+          .andExpect(jsonPath("$[2].status").value("CREATED"));
+      assertEquals(2, countCreatedStudents());
+    } finally {
+      this.jdbcTemplate.execute("ALTER TABLE students DROP CONSTRAINT chk_students_batch_test");
+    }
+  }
+
+  private void clearCaches() {
+    this.cacheManager.getCacheNames()
+        .forEach(name -> this.cacheManager.getCache(name).clear());
+  }
+
+  private int countCreatedStudents() {
+    return this.jdbcTemplate.queryForObject("""
+        SELECT count(*) FROM students s JOIN profiles p ON p.id = s.profile_id
+        WHERE p.email_address LIKE ? AND s.id > 0""", Integer.class, "%" + EMAIL_DOMAIN);
+  }
+
+  private long profileId(int index) {
+    return this.profileIds.get(index);
+  }
+
+  private static String json(List<String> items) {
+    return "[" + String.join(",", items) + "]";
+  }
+
+  private static String studentJson(long profileId) {
+    return """
+        {"profileId": %d, "programId": 1, "curriculumId": 1}""".formatted(profileId);
+  }
+}
@@ -0,0 +1,100 @@
+package pe.edu.upc.center.platform.profiles.application.internal.queryservices;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Objects;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.center.platform.profiles.domain.model.projections.ProfileSummary;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.GetProfileSummaryByIdQuery;
+import pe.edu.upc.center.platform.profiles.domain.services.ProfileQueryService;
+import pe.edu.upc.center.platform.shared.infrastructure.caching.configuration.CachingConfiguration;
+
+/**
+ * Checks that the profiles cache holds profile summaries and that evictions made in a
+ * transaction are only applied when it commits.
+ *
+ * <p>The profile is seeded with a negative ID and deleted, with its cache entry, after each
+ *     test.</p>
+ */
+@SpringBootTest
+class ProfileCacheTests {
+
+  private static final long PROFILE_ID = -21L;
+
+  @Autowired
+  private ProfileQueryService profileQueryService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Cache profiles;
+
+  @BeforeEach
+  void seedProfile() {
+    this.profiles = Objects.requireNonNull(
+        this.cacheManager.getCache(CachingConfiguration.PROFILES_CACHE));
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country, search_name)
+        VALUES (?, now(), now(), 'Cache', 'Test', 1, '99000021', date '2000-01-01', 25,
+            'cache.test@cache.test', 'Street', '1', 'Lima', '15001', 'Peru', 'cache test')""",
+        PROFILE_ID);
+  }
+
+  @AfterEach
+  void deleteProfile() {
+    this.jdbcTemplate.update("DELETE FROM profiles WHERE id = ?", PROFILE_ID);
+    this.profiles.evict(PROFILE_ID);
+  }
+
+  @Test
+  void profilesAreCachedAsSummaries() {
+    this.profileQueryService.handle(new GetProfileSummaryByIdQuery(PROFILE_ID));
+
+    var cached = this.profiles.get(PROFILE_ID);
+    assertNotNull(cached);
+    assertInstanceOf(ProfileSummary.class, cached.get());
+  }
+
+  @Test
+  void evictionsAreAppliedAfterTheCommit() {
+    this.profileQueryService.handle(new GetProfileSummaryByIdQuery(PROFILE_ID));
+
+    new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+      this.profiles.evict(PROFILE_ID);
+      assertNotNull(this.profiles.get(PROFILE_ID));
+    });
+
+    assertNull(this.profiles.get(PROFILE_ID));
+  }
+
+  @Test
+  void evictionsAreDroppedOnRollback() {
+    this.profileQueryService.handle(new GetProfileSummaryByIdQuery(PROFILE_ID));
+
+    new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+      this.profiles.evict(PROFILE_ID);
+      status.setRollbackOnly();
+    });
+
+    assertNotNull(this.profiles.get(PROFILE_ID));
+  }
+}
@@ -0,0 +1,84 @@
+package pe.edu.upc.center.platform.profiles.application.internal.queryservices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.profiles.domain.model.queries.SearchProfilesByNameQuery;
+import pe.edu.upc.center.platform.profiles.domain.services.ProfileQueryService;
+
+/**
+ * Checks the prefix and substring paths of the profile name search over seeded profiles,
+ * including prefixes that end in the last code point before the surrogates or in the maximum
+ * code point.
+ *
+ * <p>The seeded profiles are rolled back after each test.</p>
+ */
+@SpringBootTest
+@Transactional
+class ProfileQueryServiceImplTests {
+
+  private static final String BEFORE_SURROGATES = "\uD7FF";
+  private static final String AFTER_SURROGATES = "\uE000";
+  private static final String MAX_CODE_POINT = Character.toString(Character.MAX_CODE_POINT);
+
+  @Autowired
+  private ProfileQueryService profileQueryService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedProfiles() {
+    seedProfile(-11L, "qxb last");
+    seedProfile(-12L, "qxa last");
+    seedProfile(-13L, "qy last");
+    seedProfile(-14L, "zzwvq last");
+    seedProfile(-15L, BEFORE_SURROGATES + "x");
+    seedProfile(-16L, AFTER_SURROGATES + "x");
+    seedProfile(-17L, MAX_CODE_POINT + "x");
+  }
+
+  @Test
+  void shortTextsAreSearchedAsPrefixInNameOrder() {
+    assertEquals(List.of(-12L, -11L), search("QX"));
+  }
+
+  @Test
+  void longerTextsAreSearchedAsSubstring() {
+    assertEquals(List.of(-14L), search("Wvq"));
+  }
+
+  @Test
+  void prefixBeforeTheSurrogatesStopsAtTheNextValidCodePoint() {
+    assertEquals(List.of(-15L), search(BEFORE_SURROGATES));
+  }
+
+  @Test
+  void prefixOfTheMaximumCodePointHasNoUpperBound() {
+    assertEquals(List.of(-17L), search(MAX_CODE_POINT));
+  }
+
+  private List<Long> search(String text) {
+    return this.profileQueryService.handle(new SearchProfilesByNameQuery(text, 50)).stream()
+        .map(Profile::getId)
+        .toList();
+  }
+
+  private void seedProfile(long profileId, String searchName) {
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country, search_name)
+        VALUES (?, now(), now(), 'Search', 'Test', 1, ?, date '2000-01-01', 25, ?, 'Street',
+            '1', 'Lima', '15001', 'Peru', ?)""",
+        profileId, String.valueOf(77700000 - profileId), "search" + -profileId + "@search.test",
+        searchName);
+  }
+}
@@ -0,0 +1,100 @@
+package pe.edu.upc.center.platform.profiles.domain.model.queries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.Period;
+import org.junit.jupiter.api.Test;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * Checks the birthdate range an age range is translated into, around birthdays, leap days and
+ * the bounds of the ages.
+ */
+class GetProfilesByAgeRangeQueryTests {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+  @Test
+  void birthdayTodayCountsAsTheNewAge() {
+    var birthDate = LocalDate.of(2006, 10, 18);
+
+    assertTrue(matches(new GetProfilesByAgeRangeQuery(20, 20), birthDate, TODAY));
+    assertFalse(matches(new GetProfilesByAgeRangeQuery(19, 19), birthDate, TODAY));
+  }
+
+  @Test
+  void dayBeforeTheBirthdayKeepsTheYoungerAge() {
+    var birthDate = LocalDate.of(2006, 10, 19);
+
+    assertTrue(matches(new GetProfilesByAgeRangeQuery(19, 19), birthDate, TODAY));
+    assertFalse(matches(new GetProfilesByAgeRangeQuery(20, 20), birthDate, TODAY));
+  }
+
+  @Test
+  void leapDayBirthdayIsReachedOnTheFirstOfMarchOfCommonYears() {
+    var birthDate = LocalDate.of(2004, 2, 29);
+    var query = new GetProfilesByAgeRangeQuery(21, 21);
+
+    assertFalse(matches(query, birthDate, LocalDate.of(2025, 2, 28)));
+    assertTrue(matches(query, birthDate, LocalDate.of(2025, 3, 1)));
+    assertTrue(matches(new GetProfilesByAgeRangeQuery(20, 20), birthDate,
+        LocalDate.of(2025, 2, 28)));
+  }
+
+  @Test
+  void leapDayBirthdayIsReachedOnTheLeapDayOfLeapYears() {
+    var birthDate = LocalDate.of(2004, 2, 29);
+    var query = new GetProfilesByAgeRangeQuery(24, 24);
+
+    assertFalse(matches(query, birthDate, LocalDate.of(2028, 2, 28)));
+    assertTrue(matches(query, birthDate, LocalDate.of(2028, 2, 29)));
+  }
+
+  @Test
+  void equalBoundsSpanExactlyOneYearOfBirthdates() {
+    var query = new GetProfilesByAgeRangeQuery(30, 30);
+
+    assertEquals(LocalDate.of(1995, 10, 19), query.birthDateFrom(TODAY));
+    assertEquals(LocalDate.of(1996, 10, 18), query.birthDateTo(TODAY));
+  }
+
+  @Test
+  void rangeMatchesTheAgeComputedFromTheBirthdate() {
+    var query = new GetProfilesByAgeRangeQuery(17, 19);
+    var today = LocalDate.of(2024, 1, 1);
+    for (var birthDate = LocalDate.of(2003, 1, 1); birthDate.isBefore(LocalDate.of(2008, 1, 1));
+        birthDate = birthDate.plusDays(1)) {
+      var age = Period.between(birthDate, today).getYears();
+      assertEquals(age >= 17 && age <= 19, matches(query, birthDate, today), birthDate::toString);
+    }
+  }
+
+  @Test
+  void maximumAgeIsAccepted() {
+    var query = new GetProfilesByAgeRangeQuery(0, Util.MAX_AGE);
+
+    assertEquals(TODAY.minusYears(Util.MAX_AGE + 1L).plusDays(1), query.birthDateFrom(TODAY));
+    assertEquals(TODAY, query.birthDateTo(TODAY));
+  }
+
+  @Test
+  void agesOutsideTheBoundsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new GetProfilesByAgeRangeQuery(-1, 10));
+    assertThrows(IllegalArgumentException.class, () -> new GetProfilesByAgeRangeQuery(10, 9));
+    assertThrows(IllegalArgumentException.class,
+        () -> new GetProfilesByAgeRangeQuery(0, Util.MAX_AGE + 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> new GetProfilesByAgeRangeQuery(0, Integer.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> new GetProfileByAgeQuery(Util.MAX_AGE + 1));
+  }
+
+  private static boolean matches(GetProfilesByAgeRangeQuery query, LocalDate birthDate,
+      LocalDate today) {
+    return !birthDate.isBefore(query.birthDateFrom(today))
+        && !birthDate.isAfter(query.birthDateTo(today));
+  }
+}
@@ -0,0 +1,173 @@
+package pe.edu.upc.center.platform.profiles.interfaces.rest.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import pe.edu.upc.center.platform.shared.utils.Util;
+
+/**
+ * Checks the validation and the duplicate detection of the profile batch endpoint, and that a
+ * row rejected by the database only rejects its own item.
+ *
+ * <p>Each chunk of the batch is committed, the created profiles and their outbox messages are
+ *     deleted after each test.</p>
+ */
+@SpringBootTest(properties = "platform.outbox.relay-enabled=false")
+@AutoConfigureMockMvc
+class ProfilesBatchTests {
+
+  private static final String EMAIL_DOMAIN = "@profiles.batch.test";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void deleteCreatedProfiles() {
+    this.jdbcTemplate.update("""
+        DELETE FROM outbox_messages WHERE aggregate_type = 'Profile' AND aggregate_id IN (
+            SELECT id::text FROM profiles WHERE email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("DELETE FROM profiles WHERE email_address LIKE ?",
+        "%" + EMAIL_DOMAIN);
+  }
+
+  @Test
+  void invalidItemRejectsTheRequestWithTheValidationBody() throws Exception {
+    this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(List.of(profileJson(1, "created1"), profileJson(2, "not-an-email")))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Validation failed"))
+        .andExpect(jsonPath("$.fieldErrors['[1].email']").exists());
+    assertEquals(0, countCreatedProfiles());
+  }
+
+  @Test
+  void duplicatesInsideTheRequestAreRejected() throws Exception {
+    var items = List.of(
+        profileJson(1, "created1" + EMAIL_DOMAIN),
+        profileJson(2, "created1" + EMAIL_DOMAIN),
+        profileJson(1, "created3" + EMAIL_DOMAIN));
+
+    this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(items)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("CREATED"))
+        .andExpect(jsonPath("$[1].status").value("REJECTED"))
+        .andExpect(jsonPath("$[1].message").value(containsString("email")))
+        .andExpect(jsonPath("$[1].message").value(containsString("duplicated in the batch")))
+        .andExpect(jsonPath("$[2].status").value("REJECTED"))
+        .andExpect(jsonPath("$[2].message").value(containsString("document")))
+        .andExpect(jsonPath("$[2].message").value(containsString("duplicated in the batch")));
+    assertEquals(1, countCreatedProfiles());
+  }
+
+  @Test
+  void duplicatesOfExistingProfilesAreRejected() throws Exception {
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country, search_name)
+        VALUES (-21, now(), now(), 'Batch', 'Test', 1, ?, date '2000-01-01', 25, ?, 'Street',
+            '1', 'Lima', '15001', 'Peru', 'batch test')""",
+        documentNumber(1), "existing" + EMAIL_DOMAIN);
+    var items = List.of(
+        profileJson(2, "existing" + EMAIL_DOMAIN),
+        profileJson(1, "created2" + EMAIL_DOMAIN),
+        profileJson(3, "created3" + EMAIL_DOMAIN));
+
+    this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(items)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("REJECTED"))
+        .andExpect(jsonPath("$[0].message").value(containsString("already exists")))
+        .andExpect(jsonPath("$[1].status").value("REJECTED"))
+        .andExpect(jsonPath("$[1].message").value(containsString("already exists")))
+        .andExpect(jsonPath("$[2].status").value("CREATED"));
+    assertEquals(2, countCreatedProfiles());
+  }
+
+  @Test
+  void duplicatesAreDetectedAcrossChunks() throws Exception {
+    var items = new ArrayList<String>();
+    for (int i = 0; i < Util.BATCH_CHUNK_SIZE + 2; i++) {
+      items.add(profileJson(i, "created" + i + EMAIL_DOMAIN));
+    }
+    items.set(Util.BATCH_CHUNK_SIZE, profileJson(Util.BATCH_CHUNK_SIZE,
+        "created0" + EMAIL_DOMAIN));
+
+    this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(items)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("CREATED"))
+        .andExpect(jsonPath("$[" + (Util.BATCH_CHUNK_SIZE - 1) + "].status").value("CREATED"))
+        .andExpect(jsonPath("$[" + Util.BATCH_CHUNK_SIZE + "].status").value("REJECTED"))
+        .andExpect(jsonPath("$[" + (Util.BATCH_CHUNK_SIZE + 1) + "].status").value("CREATED"));
+    assertEquals(Util.BATCH_CHUNK_SIZE + 1, countCreatedProfiles());
+  }
+
+  @Test
+  void rowRejectedByTheDatabaseOnlyRejectsItsOwnItem() throws Exception {
+    this.jdbcTemplate.execute("""
+        ALTER TABLE profiles ADD CONSTRAINT chk_profiles_batch_test
+        CHECK (email_address <> 'rejected%s') NOT VALID""".formatted(EMAIL_DOMAIN));
+    try {
+      var items = List.of(
+          profileJson(1, "created1" + EMAIL_DOMAIN),
+          profileJson(2, "rejected" + EMAIL_DOMAIN),
+          profileJson(3, "created3" + EMAIL_DOMAIN));
+
+      this.mockMvc.perform(post("/api/v1/profiles/batch")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(json(items)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$[0].status").value("CREATED"))
+          .andExpect(jsonPath("$[1].status").value("REJECTED"))
+          .andExpect(jsonPath("$[1].message").value("Profile could not be saved"))
+          .andExpect(jsonPath("$[2].status").value("CREATED"));
+      assertEquals(2, countCreatedProfiles());
+    } finally {
+      this.jdbcTemplate.execute("ALTER TABLE profiles DROP CONSTRAINT chk_profiles_batch_test");
+    }
+  }
+
+  private int countCreatedProfiles() {
+    return this.jdbcTemplate.queryForObject("""
+        SELECT count(*) FROM profiles WHERE email_address LIKE ? AND id > 0""",
+        Integer.class, "%" + EMAIL_DOMAIN);
+  }
+
+  private static String json(List<String> items) {
+    return "[" + String.join(",", items) + "]";
+  }
+
+  private static String documentNumber(int index) {
+    return String.format("66%06d", index);
+  }
+
+  private static String profileJson(int documentIndex, String email) {
+    return """
+        {"firstName": "Batch", "lastName": "Test", "documentType": 1,
+         "documentNumber": "%s", "birthDate": "2000-01-01", "email": "%s",
+         "street": "Street", "streetNumber": "1", "city": "Lima", "postalCode": "15001",
+         "country": "Peru"}""".formatted(documentNumber(documentIndex), email);
+  }
+}
@@ -0,0 +1,92 @@
+package pe.edu.upc.center.platform.profiles.interfaces.rest.controllers;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks that a profile is served in JSON or CBOR as negotiated, that each format has its own
+ * ETag and that conditional requests only match the ETag of the requested format.
+ *
+ * <p>The profile is seeded past every existing ID and rolled back after each test.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ProfilesFormatTests {
+
+  private static final long PROFILE_ID = 9_100_000_001L;
+  private static final String PROFILE_URL = "/api/v1/profiles/" + PROFILE_ID;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedProfile() {
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country, search_name)
+        VALUES (?, now(), now(), 'Format', 'Test', 1, '55000001', date '2000-01-01', 25,
+            'format@profiles.format.test', 'Street', '1', 'Lima', '15001', 'Peru',
+            'format test')""", PROFILE_ID);
+  }
+
+  @Test
+  void cborIsReturnedWhenAccepted() throws Exception {
+    var body = this.mockMvc.perform(get(PROFILE_URL).accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    assertEquals(PROFILE_ID, new CBORMapper().readTree(body).get("id").asLong());
+  }
+
+  @Test
+  void formatsHaveTheirOwnETag() throws Exception {
+    var jsonETag = eTag(MediaType.APPLICATION_JSON);
+    var cborETag = eTag(MediaType.APPLICATION_CBOR);
+
+    assertNotEquals(jsonETag, cborETag);
+  }
+
+  @Test
+  void conditionalRequestsOnlyMatchTheETagOfTheirFormat() throws Exception {
+    var jsonETag = eTag(MediaType.APPLICATION_JSON);
+
+    this.mockMvc.perform(get(PROFILE_URL).accept(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+        .andExpect(status().isNotModified());
+    this.mockMvc.perform(get(PROFILE_URL).accept(MediaType.APPLICATION_CBOR)
+            .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+  }
+
+  private String eTag(MediaType format) throws Exception {
+    return this.mockMvc.perform(get(PROFILE_URL).accept(format))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(format))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+  }
+}
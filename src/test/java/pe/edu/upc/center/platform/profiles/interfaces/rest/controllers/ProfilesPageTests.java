@@ -0,0 +1,88 @@
+package pe.edu.upc.center.platform.profiles.interfaces.rest.controllers;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks both shapes of the profile list endpoint: the array of all profiles without paging
+ * parameters, and the cursor pages otherwise.
+ *
+ * <p>The profiles are seeded past every existing ID, so the pages after {@link #FIRST_ID}
+ *     hold only them. They are rolled back after each test.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ProfilesPageTests {
+
+  private static final long FIRST_ID = 9_000_000_000L;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedProfiles() {
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country, search_name)
+        SELECT ? + g, now(), now(), 'Page', 'Test', 1, '44' || lpad(g::text, 6, '0'),
+            date '2000-01-01', 25, 'page' || g || '@profiles.page.test', 'Street', '1', 'Lima',
+            '15001', 'Peru', 'page test'
+        FROM generate_series(1, 3) AS g""", FIRST_ID);
+  }
+
+  @Test
+  void withoutPagingParametersAllProfilesAreReturnedAsAnArray() throws Exception {
+    this.mockMvc.perform(get("/api/v1/profiles"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].id").value(hasItems(FIRST_ID + 1, FIRST_ID + 2, FIRST_ID + 3)));
+  }
+
+  @Test
+  void pagesAreWalkedWithTheNextCursor() throws Exception {
+    var firstPage = this.mockMvc.perform(get("/api/v1/profiles")
+            .param("after", String.valueOf(FIRST_ID))
+            .param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[*].id").value(contains(FIRST_ID + 1, FIRST_ID + 2)))
+        .andExpect(jsonPath("$.limit").value(2))
+        .andReturn().getResponse().getContentAsString();
+    Number nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+    this.mockMvc.perform(get("/api/v1/profiles")
+            .param("after", String.valueOf(nextCursor))
+            .param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[*].id").value(contains(FIRST_ID + 3)))
+        .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+  }
+
+  @Test
+  void exactlyFullLastPageHasNoNextCursor() throws Exception {
+    this.mockMvc.perform(get("/api/v1/profiles")
+            .param("after", String.valueOf(FIRST_ID))
+            .param("limit", "3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[*].id")
+            .value(contains(FIRST_ID + 1, FIRST_ID + 2, FIRST_ID + 3)))
+        .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+  }
+}
@@ -0,0 +1,178 @@
+package pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.center.platform.profiles.domain.model.events.ProfileUpdatedEvent;
+
+/**
+ * Checks that domain events are recorded in the outbox with their transaction and that the
+ * relay publishes and marks them.
+ *
+ * <p>The scheduled relay is disabled, each test runs its own relay with a capturing publisher.
+ *     Events use negative profile IDs and are deleted after each test. The relay tests run in
+ *     a transaction rolled back at the end of the test, so the messages of other tests the relay
+ *     locks and publishes are left pending.</p>
+ */
+@SpringBootTest(properties = "platform.outbox.relay-enabled=false")
+class OutboxRelayTests {
+
+  private static final long PROFILE_ID = -1L;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private OutboxMessageRepository outboxMessageRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void deleteMessages() {
+    this.jdbcTemplate.update(
+        "DELETE FROM outbox_messages WHERE aggregate_type = 'Profile' AND aggregate_id = ?",
+        String.valueOf(PROFILE_ID));
+  }
+
+  @Test
+  void committedEventsAreRecorded() {
+    new TransactionTemplate(this.transactionManager).executeWithoutResult(status ->
+        this.eventPublisher.publishEvent(new ProfileUpdatedEvent(PROFILE_ID)));
+
+    assertEquals(List.of("ProfileUpdatedEvent"), eventTypes(true));
+  }
+
+  @Test
+  void rolledBackEventsAreNotRecorded() {
+    new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+      this.eventPublisher.publishEvent(new ProfileUpdatedEvent(PROFILE_ID));
+      status.setRollbackOnly();
+    });
+
+    assertEquals(List.of(), eventTypes(false));
+  }
+
+  @Test
+  void eventsPublishedOutsideATransactionAreRejected() {
+    assertThrows(IllegalStateException.class, () ->
+        this.eventPublisher.publishEvent(new ProfileUpdatedEvent(PROFILE_ID)));
+
+    assertEquals(List.of(), eventTypes(false));
+  }
+
+  @Test
+  @Transactional
+  void relayPublishesAndMarksPendingMessages() {
+    var id = recordMessage();
+    var published = new ArrayList<Long>();
+
+    relay(new OutboxProperties(), message -> published.add(message.getId())).relay();
+
+    assertTrue(published.contains(id));
+    assertEquals(List.of(), eventTypes(true));
+  }
+
+  @Test
+  @Transactional
+  void failedMessagesAreRetriedAfterTheirBackoff() {
+    var id = recordMessage();
+    var properties = new OutboxProperties();
+    properties.setRetryBackoff(Duration.ofHours(1));
+    var published = new ArrayList<Long>();
+
+    relay(properties, failingFor(id)).relay();
+    relay(properties, message -> published.add(message.getId())).relay();
+    this.outboxMessageRepository.flush();
+
+    var message = message(id);
+    assertFalse(published.contains(id));
+    assertEquals(1, message.get("attempts"));
+    assertNotNull(message.get("next_attempt_at"));
+    assertNull(message.get("published_at"));
+    assertNull(message.get("failed_at"));
+  }
+
+  @Test
+  @Transactional
+  void failedMessagesDoNotHoldBackTheNextOnes() {
+    var failingId = recordMessage();
+    var nextId = recordMessage();
+
+    relay(new OutboxProperties(), failingFor(failingId)).relay();
+    this.outboxMessageRepository.flush();
+
+    assertNull(message(failingId).get("published_at"));
+    assertNotNull(message(nextId).get("published_at"));
+  }
+
+  @Test
+  @Transactional
+  void messagesAreParkedAfterTheMaximumAttempts() {
+    var id = recordMessage();
+    var properties = new OutboxProperties();
+    properties.setMaxAttempts(1);
+
+    relay(properties, failingFor(id)).relay();
+    this.outboxMessageRepository.flush();
+
+    var message = message(id);
+    assertEquals(1, message.get("attempts"));
+    assertNotNull(message.get("failed_at"));
+    assertNull(message.get("published_at"));
+  }
+
+  private long recordMessage() {
+    var message = new OutboxMessage(new ProfileUpdatedEvent(PROFILE_ID), "{}", Instant.now());
+    return this.outboxMessageRepository.saveAndFlush(message).getId();
+  }
+
+  private OutboxPublisher failingFor(long id) {
+    return message -> {
+      if (message.getId() == id) {
+        throw new IllegalStateException("Message rejected by the broker");
+      }
+    };
+  }
+
+  private OutboxRelay relay(OutboxProperties properties, OutboxPublisher publisher) {
+    return new OutboxRelay(this.outboxMessageRepository, publisher, properties,
+        this.transactionManager, new SimpleMeterRegistry());
+  }
+
+  private Map<String, Object> message(long id) {
+    return this.jdbcTemplate.queryForMap("""
+        SELECT attempts, next_attempt_at, failed_at, published_at FROM outbox_messages
+        WHERE id = ?""", id);
+  }
+
+  private List<String> eventTypes(boolean pendingOnly) {
+    return this.jdbcTemplate.queryForList("""
+        SELECT event_type FROM outbox_messages
+        WHERE aggregate_type = 'Profile' AND aggregate_id = ?
+          AND (published_at IS NULL OR NOT ?)
+        ORDER BY id""", String.class, String.valueOf(PROFILE_ID), pendingOnly);
+  }
+}
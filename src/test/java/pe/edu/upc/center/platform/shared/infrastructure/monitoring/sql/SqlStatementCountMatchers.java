@@ -0,0 +1,43 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Assertions on the number of SQL statements run by an endpoint or a block of code.
+ *
+ * <p>Endpoint assertions read the X-Query-Count header, the test must enable it with
+ *     {@code platform.sql-monitoring.response-headers=true}.</p>
+ */
+public final class SqlStatementCountMatchers {
+
+  private SqlStatementCountMatchers() {
+  }
+
+  /**
+   * Asserts that the request ran exactly the expected number of SQL statements.
+   *
+   * @param expected the expected number of statements
+   * @return the result matcher
+   */
+  public static ResultMatcher statementCount(int expected) {
+    return header().string(SqlMonitoringFilter.QUERY_COUNT_HEADER, String.valueOf(expected));
+  }
+
+  /**
+   * Runs an action and returns the number of SQL statements it ran.
+   *
+   * @param action the action to measure
+   * @return the number of statements
+   */
+  public static int statementsOf(Runnable action) {
+    var count = SqlStatementCounter.start();
+    try {
+      action.run();
+      return count.getStatements();
+    } finally {
+      SqlStatementCounter.stop();
+    }
+  }
+}
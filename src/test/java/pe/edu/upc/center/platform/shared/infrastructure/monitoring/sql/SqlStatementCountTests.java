@@ -0,0 +1,138 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql.SqlStatementCountMatchers.statementCount;
+import static pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql.SqlStatementCountMatchers.statementsOf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+
+/**
+ * Asserts the exact number of SQL statements run by the read endpoints, so that an extra query
+ * or a cache that stops working fails the build.
+ *
+ * <p>A profile or student read on a cache miss runs two statements: the version query that
+ *     answers conditional requests, then the lookup of the resource itself.</p>
+ *
+ * <p>The seeded rows are rolled back and the caches cleared after each test.</p>
+ */
+@SpringBootTest(properties = "platform.sql-monitoring.response-headers=true")
+@AutoConfigureMockMvc
+@Transactional
+class SqlStatementCountTests {
+
+  private static final long PROFILE_ID = -1L;
+  private static final String STUDENT_CODE = "00000000-0000-4000-8000-000000000001";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private StudentRepository studentRepository;
+
+  @BeforeEach
+  void seedDataset() {
+    clearCaches();
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country)
+        VALUES (?, now(), now(), 'Count', 'Test', 1, '99999999', date '2000-01-01', 25,
+            'count@statements.test', 'Street', '1', 'Lima', '15001', 'Peru')""", PROFILE_ID);
+    this.jdbcTemplate.update("""
+        INSERT INTO students (id, created_at, updated_at, code, profile_id, program_id,
+            curriculum_id, start_period)
+        VALUES (-1, now(), now(), ?::uuid, 999999999, 1, 1, '202520')""", STUDENT_CODE);
+  }
+
+  @AfterEach
+  void clearCaches() {
+    this.cacheManager.getCacheNames()
+        .forEach(name -> this.cacheManager.getCache(name).clear());
+  }
+
+  @Test
+  void getProfileByIdRunsTwoStatementsThenHitsTheCache() throws Exception {
+    this.mockMvc.perform(get("/api/v1/profiles/{profileId}", PROFILE_ID))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+        .andExpect(statementCount(2));
+    this.mockMvc.perform(get("/api/v1/profiles/{profileId}", PROFILE_ID))
+        .andExpect(status().isOk())
+        .andExpect(statementCount(0));
+  }
+
+  @Test
+  void unchangedProfileIsNotModifiedWithOnlyTheVersionQuery() throws Exception {
+    var eTag = this.mockMvc.perform(get("/api/v1/profiles/{profileId}", PROFILE_ID))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    clearCaches();
+
+    this.mockMvc.perform(get("/api/v1/profiles/{profileId}", PROFILE_ID)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(statementCount(1));
+  }
+
+  @Test
+  void getMissingProfileRunsOneStatement() throws Exception {
+    this.mockMvc.perform(get("/api/v1/profiles/{profileId}", -2L))
+        .andExpect(statementCount(1));
+  }
+
+  @Test
+  void getProfilesPageRunsOneStatement() throws Exception {
+    this.mockMvc.perform(get("/api/v1/profiles").param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(statementCount(1));
+  }
+
+  @Test
+  void getStudentByCodeRunsTwoStatementsThenHitsTheCache() throws Exception {
+    this.mockMvc.perform(get("/api/v1/students/{studentCode}", STUDENT_CODE))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(statementCount(2));
+    this.mockMvc.perform(get("/api/v1/students/{studentCode}", STUDENT_CODE))
+        .andExpect(status().isOk())
+        .andExpect(statementCount(0));
+  }
+
+  @Test
+  void unchangedStudentIsNotModifiedFromTheCache() throws Exception {
+    var eTag = this.mockMvc.perform(get("/api/v1/students/{studentCode}", STUDENT_CODE))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    this.mockMvc.perform(get("/api/v1/students/{studentCode}", STUDENT_CODE)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(statementCount(0));
+  }
+
+  @Test
+  void repositoryLookupRunsOneStatement() {
+    assertEquals(1, statementsOf(() ->
+        this.studentRepository.existsByCode(new StudentCode(STUDENT_CODE))));
+  }
+}
@@ -0,0 +1,59 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks how the statement counter normalizes statements and finds the most repeated one.
+ */
+class SqlStatementCounterTests {
+
+  @AfterEach
+  void stopCount() {
+    SqlStatementCounter.stop();
+  }
+
+  @Test
+  void statementsDifferingOnlyInLiteralsAndInListLengthShareTheirShape() {
+    assertEquals("select s.id from students s where s.profile_id in (?) and s.code = ?",
+        SqlStatementCounter.normalize(
+            "select s.id from students s\n where s.profile_id in (?, ?,?) and s.code = 'x''y'"));
+    assertEquals(SqlStatementCounter.normalize("select p1_0.id from profiles p1_0 where id=1"),
+        SqlStatementCounter.normalize("select p1_0.id from profiles p1_0 where id=?"));
+  }
+
+  @Test
+  void statementRunOnceForEveryParentIsTheMostRepeated() {
+    var count = SqlStatementCounter.start();
+    run("select * from profiles p where p.id in (?, ?)");
+    for (int i = 0; i < 6; i++) {
+      run("select * from students s where s.profile_id = " + i);
+    }
+
+    assertEquals(7, count.getStatements());
+    assertEquals(6, count.getMostRepeatedExecutions());
+    assertEquals("select * from students s where s.profile_id = ?",
+        count.getMostRepeatedStatement());
+  }
+
+  @Test
+  void batchExecutionsAreNotRepeats() {
+    var count = SqlStatementCounter.start();
+    for (int i = 0; i < 6; i++) {
+      SqlStatementCounter.prepare("insert into profiles (id) values (?)");
+      SqlStatementCounter.record(1);
+    }
+
+    assertEquals(6, count.getStatements());
+    assertEquals(0, count.getMostRepeatedExecutions());
+    assertNull(count.getMostRepeatedStatement());
+  }
+
+  private static void run(String sql) {
+    SqlStatementCounter.prepare(sql);
+    SqlStatementCounter.recordStatement(1);
+  }
+}
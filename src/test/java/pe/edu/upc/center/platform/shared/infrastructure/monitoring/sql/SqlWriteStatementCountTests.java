@@ -0,0 +1,173 @@
+package pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql.SqlStatementCountMatchers.statementCount;
+import static pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql.SqlStatementCountMatchers.statementsOf;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import pe.edu.upc.center.platform.faculties.domain.model.aggregates.Student;
+import pe.edu.upc.center.platform.profiles.domain.model.aggregates.Profile;
+import pe.edu.upc.center.platform.shared.infrastructure.messaging.outbox.OutboxMessage;
+
+/**
+ * Asserts the exact number of SQL statements run by the create endpoints, outbox insert
+ * included, so that an extra query per item fails the build.
+ *
+ * <p>The requests commit, the created rows are deleted after each test. The enrolled profiles
+ *     are created through the batch endpoint before measuring. Identifiers come from
+ *     pooled sequences, so each test starts a new block of identifiers for every table it
+ *     inserts into, and no sequence call falls inside a request. The outbox relay is disabled,
+ *     the tests delete the recorded messages themselves.</p>
+ */
+@SpringBootTest(properties = {
+    "platform.sql-monitoring.response-headers=true",
+    "platform.outbox.relay-enabled=false"
+})
+@AutoConfigureMockMvc
+class SqlWriteStatementCountTests {
+
+  private static final String EMAIL_DOMAIN = "@write.statements.test";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private List<Long> profileIds;
+
+  @BeforeEach
+  void seedProfiles() throws Exception {
+    var response = this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + profileJson(7, "seed") + "," + profileJson(8, "seed") + ","
+                + profileJson(9, "seed") + "]"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    this.profileIds = JsonPath.<List<Number>>read(response, "$[*].id").stream()
+        .map(Number::longValue)
+        .toList();
+    clearCaches();
+    startNewIdBlock(Profile.class);
+    startNewIdBlock(Student.class);
+    startNewIdBlock(OutboxMessage.class);
+  }
+
+  @AfterEach
+  void deleteCreatedRows() {
+    this.jdbcTemplate.update("""
+        DELETE FROM outbox_messages WHERE aggregate_type = 'Student' AND aggregate_id IN (
+            SELECT s.code::text FROM students s JOIN profiles p ON p.id = s.profile_id
+            WHERE p.email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("""
+        DELETE FROM students WHERE profile_id IN (
+            SELECT id FROM profiles WHERE email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("""
+        DELETE FROM outbox_messages WHERE aggregate_type = 'Profile' AND aggregate_id IN (
+            SELECT id::text FROM profiles WHERE email_address LIKE ?)""", "%" + EMAIL_DOMAIN);
+    this.jdbcTemplate.update("DELETE FROM profiles WHERE email_address LIKE ?",
+        "%" + EMAIL_DOMAIN);
+    clearCaches();
+  }
+
+  @Test
+  void createProfileRunsTheInsertAndTheOutboxInsert() throws Exception {
+    this.mockMvc.perform(post("/api/v1/profiles")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(profileJson(1, "created")))
+        .andExpect(status().isCreated())
+        .andExpect(statementCount(2));
+  }
+
+  @Test
+  void createStudentRunsBothChecksTheInsertAndTheOutboxInsert() throws Exception {
+    this.mockMvc.perform(post("/api/v1/students")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(studentJson(this.profileIds.get(0))))
+        .andExpect(status().isCreated())
+        .andExpect(statementCount(4));
+  }
+
+  @Test
+  void createProfilesBatchRunsTwoChecksAndTwoBatchedInserts() throws Exception {
+    this.mockMvc.perform(post("/api/v1/profiles/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + profileJson(1, "created") + "," + profileJson(2, "created") + ","
+                + profileJson(3, "created") + "]"))
+        .andExpect(status().isOk())
+        .andExpect(statementCount(4));
+  }
+
+  @Test
+  void createStudentsBatchRunsTwoChecksAndTwoBatchedInserts() throws Exception {
+    this.mockMvc.perform(post("/api/v1/students/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + studentJson(this.profileIds.get(0)) + ","
+                + studentJson(this.profileIds.get(1)) + ","
+                + studentJson(this.profileIds.get(2)) + "]"))
+        .andExpect(status().isOk())
+        .andExpect(statementCount(4));
+  }
+
+  private void clearCaches() {
+    this.cacheManager.getCacheNames()
+        .forEach(name -> this.cacheManager.getCache(name).clear());
+  }
+
+  /**
+   * Draws identifiers of an entity until one of them fetches a new block from its sequence, so
+   * the next inserts of the test use the rest of that block.
+   *
+   * @param entityClass the entity whose identifier generator is advanced
+   */
+  private void startNewIdBlock(Class<?> entityClass) {
+    var sessionFactory = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    var generator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+        .getEntityDescriptor(entityClass).getGenerator();
+    try (var session = sessionFactory.openSession()) {
+      var sessionImplementor = (SharedSessionContractImplementor) session;
+      var fetched = false;
+      for (int i = 0; i <= 1000 && !fetched; i++) {
+        fetched = statementsOf(() -> generator.generate(sessionImplementor, null)) > 0;
+      }
+      assertTrue(fetched, "No sequence call for " + entityClass.getSimpleName());
+    }
+  }
+
+  private static String profileJson(int index, String emailPrefix) {
+    return """
+        {"firstName": "Write", "lastName": "Test %1$d", "documentType": 1,
+         "documentNumber": "8870000%1$d", "birthDate": "2000-01-01",
+         "email": "%2$s%1$d%3$s", "street": "Street", "streetNumber": "1",
+         "city": "Lima", "postalCode": "15001", "country": "Peru"}"""
+        .formatted(index, emailPrefix, EMAIL_DOMAIN);
+  }
+
+  private static String studentJson(long profileId) {
+    return """
+        {"profileId": %d, "programId": 1, "curriculumId": 1}""".formatted(profileId);
+  }
+}
@@ -0,0 +1,28 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import pe.edu.upc.center.platform.shared.infrastructure.monitoring.sql.SqlRepeatedStatementInspector;
+
+/**
+ * Statement inspector that records the SQL statements prepared by Hibernate, on top of the
+ * repeated statement tracking of the SQL monitoring.
+ */
+public class CapturingStatementInspector extends SqlRepeatedStatementInspector {
+
+  private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String inspect(String sql) {
+    STATEMENTS.add(sql);
+    return super.inspect(sql);
+  }
+
+  public static void clear() {
+    STATEMENTS.clear();
+  }
+
+  public static List<String> statements() {
+    return List.copyOf(STATEMENTS);
+  }
+}
@@ -0,0 +1,139 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.ProfileId;
+import pe.edu.upc.center.platform.faculties.domain.model.valueobjects.StudentCode;
+import pe.edu.upc.center.platform.faculties.infrastructure.persistence.jpa.repositories.StudentRepository;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.Document;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.DocumentTypes;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.EmailAddress;
+import pe.edu.upc.center.platform.profiles.domain.model.valueobjects.PersonName;
+import pe.edu.upc.center.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+
+/**
+ * Runs EXPLAIN on the SQL of every repository lookup over a seeded dataset and fails if any of
+ * them falls back to a sequential scan.
+ *
+ * <p>The seeded rows and the refreshed statistics are rolled back after each test.
+ *     Requires PostgreSQL 16 or later for {@code EXPLAIN (GENERIC_PLAN)}.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "pe.edu.upc.center.platform.shared.infrastructure.persistence.jpa.CapturingStatementInspector")
+@Transactional
+class QueryPlanRegressionTests {
+
+  private static final int SEED_SIZE = 5000;
+
+  @Autowired
+  private ProfileRepository profileRepository;
+
+  @Autowired
+  private StudentRepository studentRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedDataset() {
+    this.jdbcTemplate.update("""
+        INSERT INTO profiles (id, created_at, updated_at, first_name, last_name, document_type,
+            document_number, birth_date, age, email_address, address_street, address_number,
+            address_city, address_postal_code, address_country, search_name)
+        SELECT -g, now(), now(), 'First' || g, 'Last' || g, 1, lpad(g::text, 8, '0'),
+            date '2000-01-01' - g, g % 100, 'seed' || g || '@plan.test', 'Street', '1',
+            'Lima', '15001', 'Peru', 'first' || g || ' last' || g
+        FROM generate_series(1, ?) AS g""", SEED_SIZE);
+    this.jdbcTemplate.update("""
+        INSERT INTO students (id, created_at, updated_at, code, profile_id, program_id,
+            curriculum_id, start_period)
+        SELECT -g, now(), now(), gen_random_uuid(), g, 1, 1, '202520'
+        FROM generate_series(1, ?) AS g""", SEED_SIZE);
+    this.jdbcTemplate.execute("ANALYZE profiles");
+    this.jdbcTemplate.execute("ANALYZE students");
+  }
+
+  @Test
+  void profileLookupsUseIndexes() {
+    var name = new PersonName("First42", "Last42");
+    var document = new Document(DocumentTypes.DNI, "00000042");
+    var email = new EmailAddress("seed42@plan.test");
+
+    assertIndexed(() -> this.profileRepository.existsByName(name));
+    assertIndexed(() -> this.profileRepository.existsByDocument(document));
+    assertIndexed(() -> this.profileRepository.existsByEmail(email));
+    assertIndexed(() -> this.profileRepository.existsByNameAndIdIsNot(name, 1L));
+    assertIndexed(() -> this.profileRepository.existsByDocumentAndIdIsNot(document, 1L));
+    assertIndexed(() -> this.profileRepository.existsByEmailAndIdIsNot(email, 1L));
+    assertIndexed(() -> this.profileRepository.findByName(name));
+    assertIndexed(() -> this.profileRepository.findByEmail(email));
+    assertIndexed(() -> this.profileRepository.findByBirthDateBetween(
+        LocalDate.of(1990, 1, 1), LocalDate.of(1990, 12, 31)));
+    assertIndexed(() -> this.profileRepository.findSummariesByIdGreaterThan(0L,
+        Limit.of(50)));
+    assertIndexed(() -> this.profileRepository.findExistingEmailAddresses(
+        List.of(email.address(), "seed43@plan.test")));
+    assertIndexed(() -> this.profileRepository.findDocumentsByNumberIn(
+        List.of(document.number(), "00000043")));
+    assertIndexed(() -> this.profileRepository.findExistingIds(List.of(-42L, -43L)));
+    assertIndexed(() -> this.profileRepository.findUpdatedAtById(-42L));
+    assertIndexed(() -> this.profileRepository.findAllById(List.of(-42L, -43L)));
+    assertIndexed(() -> this.profileRepository.searchBySearchNameContaining("%last42%",
+        "last42", 10));
+    assertIndexed(() -> this.profileRepository.searchBySearchNameStartingWith("fi", "fj", 10));
+    assertIndexed(() -> this.profileRepository.searchBySearchNameFrom("fi", 10));
+  }
+
+  @Test
+  void studentLookupsUseIndexes() {
+    var code = new StudentCode(UUID.randomUUID().toString());
+    var profileId = new ProfileId(42L);
+
+    assertIndexed(() -> this.studentRepository.findByCode(code));
+    assertIndexed(() -> this.studentRepository.findSummaryByCode(code));
+    assertIndexed(() -> this.studentRepository.findUpdatedAtByCode(code));
+    assertIndexed(() -> this.studentRepository.findByProfileId(profileId));
+    assertIndexed(() -> this.studentRepository.existsByCode(code));
+    assertIndexed(() -> this.studentRepository.existsByProfileId(profileId));
+    assertIndexed(() -> this.studentRepository.findExistingProfileIds(List.of(42L, 43L)));
+    assertIndexed(() -> this.studentRepository.findSummariesByIdGreaterThan(0L,
+        Limit.of(50)));
+  }
+
+  private void assertIndexed(Runnable repositoryCall) {
+    CapturingStatementInspector.clear();
+    repositoryCall.run();
+    var statements = CapturingStatementInspector.statements();
+    assertFalse(statements.isEmpty(), "The repository call did not run any statement");
+
+    for (var sql : statements) {
+      var plan = String.join("\n", this.jdbcTemplate.queryForList(
+          "EXPLAIN (GENERIC_PLAN) " + toNumberedParameters(sql), String.class));
+      assertFalse(plan.contains("Seq Scan"),
+          () -> "Sequential scan for query:\n" + sql + "\n" + plan);
+    }
+  }
+
+  private static String toNumberedParameters(String sql) {
+    var numbered = new StringBuilder(sql.length() + 16);
+    var parameter = 0;
+    for (var character : sql.toCharArray()) {
+      if (character == '?') {
+        numbered.append('$').append(++parameter);
+      } else {
+        numbered.append(character);
+      }
+    }
+    return numbered.toString();
+  }
+}
@@ -0,0 +1,96 @@
+package pe.edu.upc.center.platform.shared.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks which pool serves read-only and read-write transactions when the replica is enabled.
+ *
+ * <p>The replica is a second pool on the local database, told apart by its application name.
+ *     Point {@code platform.datasource.replica.url} to a second instance to run them against a
+ *     real replica.</p>
+ */
+@SpringBootTest(properties = {
+    "platform.datasource.replica.enabled=true",
+    "platform.datasource.replica.url=jdbc:postgresql://localhost:5432/learningsmall"
+        + "?ApplicationName=" + ReadReplicaRoutingTests.REPLICA_APPLICATION_NAME
+})
+class ReadReplicaRoutingTests {
+
+  static final String REPLICA_APPLICATION_NAME = "replica";
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ReplicaHealthMonitor healthMonitor;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  private DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @BeforeEach
+  void checkReplica() {
+    this.healthMonitor.checkReplica();
+  }
+
+  @Test
+  void readOnlyTransactionsUseTheReplica() {
+    assertEquals(REPLICA_APPLICATION_NAME, applicationName(true));
+  }
+
+  @Test
+  void readWriteTransactionsUseThePrimary() {
+    assertNotEquals(REPLICA_APPLICATION_NAME, applicationName(false));
+  }
+
+  @Test
+  void readOnlyTransactionsUseThePrimaryWhenRequired() {
+    var previous = DataSourceRoutingContext.requirePrimary();
+    try {
+      assertNotEquals(REPLICA_APPLICATION_NAME, applicationName(true));
+    } finally {
+      DataSourceRoutingContext.restore(previous);
+    }
+  }
+
+  @Test
+  void readsFallBackToThePrimaryWhenTheReplicaIsDown() {
+    var unreachable = new DriverManagerDataSource("jdbc:postgresql://localhost:1/learningsmall");
+    var monitor = new ReplicaHealthMonitor(unreachable, Duration.ofSeconds(10),
+        Duration.ofSeconds(1));
+    monitor.checkReplica();
+    var routing = new ReplicaRoutingDataSource(this.primaryDataSource, this.replicaDataSource,
+        monitor);
+
+    assertFalse(monitor.isReplicaHealthy());
+    assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+  }
+
+  private String applicationName(boolean readOnly) {
+    var transactionTemplate = new TransactionTemplate(this.transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status -> this.jdbcTemplate.queryForObject(
+        "SELECT current_setting('application_name')", String.class));
+  }
+}